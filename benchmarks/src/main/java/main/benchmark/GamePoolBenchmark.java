@@ -0,0 +1,79 @@
+package main.benchmark;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import main.hangman.Game;
+import main.hangman.GamePool;
+import main.io.Port;
+import main.io.StreamPort;
+import main.terminal.AnsiScreenBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks setting up a game and drawing its first screen, with a newly
+ * constructed game versus one taken from a {@link GamePool}. Run with
+ * {@code -prof gc} to compare the allocation per game.
+ *
+ * @author Neufeld-Martin
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dhangman.animation.delay=0")
+@State(Scope.Thread)
+public class GamePoolBenchmark {
+  /** The port the games are played through. */
+  private Port port;
+
+  /** The pool games are taken from. */
+  private GamePool pool;
+
+  /** Creates a port printing into a null sink. */
+  @Setup
+  public void setUp() {
+    this.port = new StreamPort(
+        InputStream.nullInputStream(),
+        OutputStream.nullOutputStream(),
+        8192,
+        out -> new AnsiScreenBackend(out, 24, 80)
+    );
+    this.pool = new GamePool(1);
+  }
+
+  /**
+   * Constructs a game and draws its first screen.
+   *
+   * @return The game.
+   */
+  @Benchmark
+  public Game newGame() {
+    Game game = new Game(this.port, 8, "HANGMAN");
+    game.getPrinter().initializeScreen();
+    game.getPrinter().close();
+    return game;
+  }
+
+  /**
+   * Takes a game from the pool, draws its first screen and gives it back.
+   *
+   * @return The game.
+   */
+  @Benchmark
+  public Game pooledGame() {
+    Game game = this.pool.acquire(this.port, "HANGMAN", 8);
+    game.getPrinter().initializeScreen();
+    this.pool.release(game);
+    return game;
+  }
+}
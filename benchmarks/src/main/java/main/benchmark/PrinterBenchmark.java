@@ -0,0 +1,76 @@
+package main.benchmark;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import main.hangman.Game;
+import main.io.Port;
+import main.io.StreamPort;
+import main.terminal.AnsiScreenBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks rendering the hanged man and the stats block into a null sink.
+ *
+ * @author Neufeld-Martin
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dhangman.animation.delay=0")
+@State(Scope.Thread)
+public class PrinterBenchmark {
+  /** The game whose state is rendered. */
+  private Game game;
+
+  /** Letter guessed next; cycles through A-Z. */
+  private char nextChar;
+
+  /** Creates a game printing into a null sink. */
+  @Setup(Level.Iteration)
+  public void setUp() {
+    Port port = new StreamPort(
+        InputStream.nullInputStream(),
+        OutputStream.nullOutputStream(),
+        8192,
+        out -> new AnsiScreenBackend(out, 24, 80)
+    );
+    this.game = new Game(port, Integer.MAX_VALUE, "HANGMAN");
+    this.game.getPrinter().initializeScreen();
+    this.nextChar = 'A';
+  }
+
+  /** Redraws the whole screen. */
+  @Benchmark
+  public void initializeScreen() {
+    this.game.getPrinter().initializeScreen();
+  }
+
+  /** Updates the screen without any change of state. */
+  @Benchmark
+  public void updateScreenUnchanged() {
+    this.game.getPrinter().updateScreen();
+  }
+
+  /** Makes a guess and updates the screen. */
+  @Benchmark
+  public void guessAndUpdateScreen() {
+    if (this.nextChar > 'Z') {
+      setUp();
+    }
+
+    this.game.getRound().guessChar(this.nextChar++);
+    this.game.getPrinter().updateScreen();
+  }
+}
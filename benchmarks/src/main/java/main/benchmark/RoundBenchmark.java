@@ -0,0 +1,111 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import main.hangman.Round;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the guess processing behind {@code Game.letPlayerGuessChar},
+ * {@code Game.letPlayerGuessWord} and {@code Game.isValidWord}.
+ *
+ * @author Neufeld-Martin
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundBenchmark {
+  /** Amount of wrong words guessed by {@link #guessManyWords(Blackhole)}. */
+  private static final int WRONG_WORDS = 1000;
+
+  /** The word to guess. */
+  @Param({"HANGMAN", "PNEUMONOULTRAMICROSCOPICSILICOVOLCANOCONIOSIS"})
+  public String word;
+
+  /** Distinct wrong words of the length of the word to guess. */
+  private String[] wrongWords;
+
+  /** Creates the wrong words, counting in base 26 from the end of the word. */
+  @Setup
+  public void setUp() {
+    this.wrongWords = new String[WRONG_WORDS];
+
+    for (int i = 0; i < WRONG_WORDS; i++) {
+      char[] chars = this.word.toCharArray();
+
+      for (int n = i + 1, position = chars.length - 1; n > 0 && position >= 0; n /= 26, position--) {
+        chars[position] = (char) ('A' + (chars[position] - 'A' + n % 26) % 26);
+      }
+
+      this.wrongWords[i] = new String(chars);
+    }
+  }
+
+  /** Plays a whole round by guessing the letters A-Z in order. */
+  @Benchmark
+  public Round guessAllChars() {
+    Round round = new Round(this.word, 26);
+
+    for (char chr = 'A'; chr <= 'Z' && !round.isOver(); chr++) {
+      round.guessChar(chr);
+    }
+
+    return round;
+  }
+
+  /** Guesses a wrong and then the right word. */
+  @Benchmark
+  public Round guessWords() {
+    Round round = new Round(this.word, 8);
+    round.guessWord(this.word.replace('A', 'B').replace('N', 'A'));
+    round.guessWord(this.word);
+    return round;
+  }
+
+  /**
+   * Guesses many wrong words in a round with a generous maximum, rendering
+   * the guessed words after each guess as the printer does.
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Round guessManyWords(Blackhole blackhole) {
+    Round round = new Round(this.word, Integer.MAX_VALUE);
+
+    for (String wrongWord : this.wrongWords) {
+      if (!round.isGuessedWord(wrongWord)) {
+        round.guessWord(wrongWord);
+      }
+      blackhole.consume(round.getGuessedWordsReadOnly());
+    }
+
+    return round;
+  }
+
+  /** Renders the views used by the printer after a guess. */
+  @Benchmark
+  public void guessCharAndRender(Blackhole blackhole) {
+    Round round = new Round(this.word, 8);
+    round.guessChar('N');
+    blackhole.consume(round.getGuessStatus());
+    blackhole.consume(round.getGuessedCharsReadOnly());
+  }
+
+  /** Validates a word. */
+  @Benchmark
+  public boolean isValidWord() {
+    return Round.isValidWord(this.word);
+  }
+}
@@ -0,0 +1,63 @@
+package main.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import main.terminal.AnsiScreenBackend;
+import main.terminal.ScreenBackend;
+import main.terminal.TputScreenBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the cursor operations of both screen backends. The in-process
+ * backend writes into a null sink; the tput backend forks a process per
+ * operation.
+ *
+ * @author Neufeld-Martin
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ScreenBenchmark {
+  /** Name of the backend. */
+  @Param({"ansi", "tput"})
+  public String backend;
+
+  /** The backend under test. */
+  private ScreenBackend screen;
+
+  /** Creates the backend under test. */
+  @Setup
+  public void setUp() {
+    this.screen = this.backend.equals("ansi")
+        ? new AnsiScreenBackend(new PrintStream(OutputStream.nullOutputStream()), 24, 80)
+        : new TputScreenBackend();
+  }
+
+  /** Moves the cursor. */
+  @Benchmark
+  public void setCursorPosition() {
+    this.screen.setCursorPosition(12, 34);
+  }
+
+  /** Moves the cursor and clears to the end of the screen, as after a guess. */
+  @Benchmark
+  public void clearBelowFrame() {
+    this.screen.setCursorPosition(14, 0);
+    this.screen.clearFromCursorToEnd();
+    this.screen.flush();
+  }
+}
@@ -0,0 +1,135 @@
+package main.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the time from launching {@code main.hangman.Launcher} to its first
+ * prompt in each launch mode of the {@code launch} scripts. Modes whose
+ * artifacts are not built are skipped.
+ *
+ * <p>Run from the root of the project after {@code launch/build.sh}, and
+ * optionally {@code launch/train.sh} and {@code launch/build-native.sh}:
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar main.benchmark.StartupBenchmark [runs]
+ * }</pre>
+ *
+ * @author Neufeld-Martin
+ */
+public class StartupBenchmark {
+  /** The first prompt of the launcher. */
+  private static final byte[] PROMPT = "word to guess: ".getBytes(StandardCharsets.UTF_8);
+
+  /** Options of the tuned JVM modes, as in {@code launch/env.sh}. */
+  private static final List<String> JVM_OPTIONS = List.of(
+      "-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC"
+  );
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args Optionally the amount of runs per mode, {@code 10} by default.
+   * @throws Exception if a launch fails.
+   */
+  public static void main(String[] args) throws Exception {
+    int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    String gson = Path.of("lib", "gson", "v2.8.9", "gson-2.8.9.jar").toString();
+    Map<String, List<String>> modes = new LinkedHashMap<>();
+
+    modes.put("classes", List.of(
+        java, "-cp", "bin/classes" + File.pathSeparator + gson, "main.hangman.Launcher"
+    ));
+    modes.put("jvm", concat(List.of(java), JVM_OPTIONS, List.of("-jar", "bin/hangman.jar")));
+    if (Files.exists(Path.of("bin", "hangman.jsa"))) {
+      modes.put("cds", concat(
+          List.of(java),
+          JVM_OPTIONS,
+          List.of("-XX:SharedArchiveFile=bin/hangman.jsa", "-jar", "bin/hangman.jar")
+      ));
+    }
+    if (Files.isExecutable(Path.of("bin", "hangman"))) {
+      modes.put("native", List.of("bin/hangman"));
+    }
+
+    System.out.printf("%-8s %10s %10s %10s%n", "mode", "min ms", "median ms", "max ms");
+
+    for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+      timeToFirstPrompt(mode.getValue());
+
+      double[] times = new double[runs];
+      for (int i = 0; i < runs; i++) {
+        times[i] = timeToFirstPrompt(mode.getValue()) / 1_000_000.0;
+      }
+      Arrays.sort(times);
+
+      System.out.printf(
+          "%-8s %10.1f %10.1f %10.1f%n",
+          mode.getKey(), times[0], times[runs / 2], times[runs - 1]
+      );
+    }
+  }
+
+  /**
+   * Concatenates lists.
+   *
+   * @param lists The lists.
+   * @return The concatenation.
+   */
+  @SafeVarargs
+  private static List<String> concat(List<String>... lists) {
+    List<String> concatenation = new ArrayList<>();
+
+    for (List<String> list : lists) {
+      concatenation.addAll(list);
+    }
+
+    return concatenation;
+  }
+
+  /**
+   * Launches a command and waits for the first prompt.
+   *
+   * @param command The command.
+   * @return Nanoseconds from launching to the end of the prompt.
+   * @throws IOException if the command cannot be launched or exits before
+   *     prompting.
+   * @throws InterruptedException if interrupted while waiting for the exit.
+   */
+  private static long timeToFirstPrompt(List<String> command)
+      throws IOException, InterruptedException {
+    ProcessBuilder processBuilder = new ProcessBuilder(command)
+        .redirectError(ProcessBuilder.Redirect.DISCARD);
+    long start = System.nanoTime();
+    Process process = processBuilder.start();
+
+    try (
+      InputStream out = process.getInputStream();
+    ) {
+      int matched = 0;
+      int read;
+
+      while ((read = out.read()) >= 0) {
+        matched = read == PROMPT[matched] ? matched + 1 : (read == PROMPT[0] ? 1 : 0);
+
+        if (matched == PROMPT.length) {
+          return System.nanoTime() - start;
+        }
+      }
+
+      throw new IOException("Exited before prompting: " + command);
+    } finally {
+      process.destroyForcibly();
+      process.waitFor();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import main.hangman.Alphabet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the table-driven validation and formatting of {@link Alphabet}
+ * against the regular expressions it replaces.
+ *
+ * @author Neufeld-Martin
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+  /** The precompiled pattern of a valid word. */
+  private static final Pattern VALID_WORD = Pattern.compile("[A-Z]+");
+
+  /** The word to validate. */
+  @Param({"HANGMAN", "PNEUMONOULTRAMICROSCOPICSILICOVOLCANOCONIOSIS", "HANG-MAN"})
+  public String word;
+
+  /** Validates a word with a pattern compiled on every call. */
+  @Benchmark
+  public boolean isValidWordRegex() {
+    return this.word.matches("[A-Z]+");
+  }
+
+  /** Validates a word with a precompiled pattern. */
+  @Benchmark
+  public boolean isValidWordPrecompiled() {
+    return VALID_WORD.matcher(this.word).matches();
+  }
+
+  /** Validates a word with a table-driven scan. */
+  @Benchmark
+  public boolean isValidWordAlphabet() {
+    return Alphabet.LATIN.isValidWord(this.word);
+  }
+
+  /** Separates the characters of a word by blanks with a regular expression. */
+  @Benchmark
+  public String spacedRegex() {
+    return this.word.replaceAll("\\B", " ");
+  }
+
+  /** Separates the characters of a word by blanks with a scan. */
+  @Benchmark
+  public String spacedAlphabet() {
+    return Alphabet.spaced(this.word);
+  }
+}
@@ -0,0 +1,14 @@
+#!/bin/bash
+# Compiles bin/hangman.jar into the native executable bin/hangman. Requires
+# GraalVM with native-image on the PATH.
+set -euo pipefail
+source "$(dirname "${BASH_SOURCE[0]}")/env.sh"
+
+[ -f "$JAR" ] || "$ROOT/launch/build.sh"
+
+native-image \
+  --no-fallback \
+  -H:ConfigurationFileDirectories="$ROOT/launch/native-image" \
+  -cp "$JAR:$GSON" \
+  -o "$NATIVE" \
+  main.hangman.Launcher
@@ -0,0 +1,17 @@
+#!/bin/bash
+# Compiles the sources into bin/hangman.jar.
+set -euo pipefail
+source "$(dirname "${BASH_SOURCE[0]}")/env.sh"
+
+rm -rf "$BIN/classes"
+mkdir -p "$BIN/classes"
+javac -d "$BIN/classes" -cp "$GSON" $(find "$ROOT/src" -name '*.java')
+
+# The class path is relative to the jar, so the jar finds Gson in lib/.
+cat > "$BIN/MANIFEST.MF" <<MANIFEST
+Main-Class: main.hangman.Launcher
+Class-Path: ../lib/gson/v2.8.9/gson-2.8.9.jar
+MANIFEST
+
+jar --create --file "$JAR" --manifest "$BIN/MANIFEST.MF" -C "$BIN/classes" .
+echo "Built $JAR"
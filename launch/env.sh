@@ -0,0 +1,13 @@
+# Shared settings of the launch scripts. Sourced, not executed.
+
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+BIN="$ROOT/bin"
+JAR="$BIN/hangman.jar"
+ARCHIVE="$BIN/hangman.jsa"
+NATIVE="$BIN/hangman"
+GSON="$ROOT/lib/gson/v2.8.9/gson-2.8.9.jar"
+
+# Sessions are short: skip the optimizing compiler and use the GC that starts
+# fastest. Training and launching must use the same options, otherwise the
+# JVM refuses the archive.
+JVM_OPTIONS=(-XX:TieredStopAtLevel=1 -XX:+UseSerialGC)
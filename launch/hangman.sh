@@ -0,0 +1,24 @@
+#!/bin/bash
+# Launches Hangman in the mode given by HANGMAN_MODE:
+#   jvm    - plain JVM (default).
+#   cds    - JVM with the AppCDS archive created by launch/train.sh.
+#   native - native executable built by launch/build-native.sh.
+# All arguments are passed to the launcher.
+set -euo pipefail
+source "$(dirname "${BASH_SOURCE[0]}")/env.sh"
+
+case "${HANGMAN_MODE:-jvm}" in
+  jvm)
+    exec java "${JVM_OPTIONS[@]}" -jar "$JAR" "$@"
+    ;;
+  cds)
+    exec java "${JVM_OPTIONS[@]}" -XX:SharedArchiveFile="$ARCHIVE" -jar "$JAR" "$@"
+    ;;
+  native)
+    exec "$NATIVE" "$@"
+    ;;
+  *)
+    echo "Unknown mode: $HANGMAN_MODE" >&2
+    exit 1
+    ;;
+esac
@@ -0,0 +1,19 @@
+#!/bin/bash
+# Creates the AppCDS archive bin/hangman.jsa from a training run that plays a
+# scripted game, so that the classes loaded by a typical session are mapped
+# from the archive instead of being parsed and verified on every launch.
+set -euo pipefail
+source "$(dirname "${BASH_SOURCE[0]}")/env.sh"
+
+[ -f "$JAR" ] || "$ROOT/launch/build.sh"
+
+JOURNAL="$(mktemp -d)"
+trap 'rm -rf "$JOURNAL"' EXIT
+
+# Word, a wrong and a right character guess, a wrong and a right word guess,
+# then enter to exit. The journal loads the Gson classes as well.
+printf 'TRAINING\nc\nX\nc\nA\nw\nTRAINEES\nw\nTRAINING\n\n' \
+  | (cd "$ROOT" && java "${JVM_OPTIONS[@]}" -XX:ArchiveClassesAtExit="$ARCHIVE" \
+      -jar "$JAR" --journal "$JOURNAL") > /dev/null
+
+echo "Created $ARCHIVE"
@@ -0,0 +1,260 @@
+package main.hangman;
+
+import java.util.Arrays;
+
+/**
+ * The letters a word to guess may consist of. Validation and formatting are
+ * table-driven scans without regular expressions: every letter has an index,
+ * looked up in a table covering the range from the lowest to the highest
+ * letter, so that sets of guessed letters fit into a {@code long} bitmask.
+ *
+ * <p>The letters of an alphabet are upper case letters of any script, in the
+ * order guessed characters are listed in. The default alphabet consists of
+ * the letters A-Z and can be replaced by setting the system property
+ * {@code hangman.alphabet} to the letters of another alphabet, e.g. the
+ * letters A-Z followed by the German umlauts.
+ *
+ * @author Neufeld-Martin
+ */
+public final class Alphabet {
+  /** Maximum amount of letters of an alphabet. */
+  public static final int MAX_SIZE = Long.SIZE;
+
+  /** Character standing in for a letter that is not guessed yet. */
+  public static final char HIDDEN = '_';
+
+  /** The letters A-Z. */
+  public static final Alphabet LATIN = of("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+  /** The alphabet used if none is specified. Created on first access. */
+  private static Alphabet defaultAlphabet;
+
+  /** The letters in order. */
+  private final String letters;
+
+  /** The lowest letter. */
+  private final char lowest;
+
+  /**
+   * Index of every character from the {@link #lowest lowest} to the highest
+   * letter, or {@code -1} if the character is not a letter.
+   */
+  private final byte[] indexes;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param letters the {@link #letters letters in order}.
+   * @param lowest the {@link #lowest lowest letter}.
+   * @param indexes the {@link #indexes index of every character}.
+   */
+  private Alphabet(String letters, char lowest, byte[] indexes) {
+    this.letters = letters;
+    this.lowest = lowest;
+    this.indexes = indexes;
+  }
+
+  /**
+   * Creates an alphabet.
+   *
+   * @param letters The letters in order. Must be upper case letters without
+   *     duplicates, at most {@link #MAX_SIZE} of them.
+   * @return The alphabet.
+   * @throws IllegalArgumentException if the letters are invalid.
+   */
+  public static Alphabet of(String letters) {
+    if (letters.isEmpty() || letters.length() > MAX_SIZE) {
+      throw new IllegalArgumentException(
+          "An alphabet must consist of 1 to " + MAX_SIZE + " letters: " + letters
+      );
+    }
+
+    char lowest = Character.MAX_VALUE;
+    char highest = Character.MIN_VALUE;
+
+    for (int i = 0; i < letters.length(); i++) {
+      char letter = letters.charAt(i);
+
+      if (!Character.isLetter(letter) || Character.toUpperCase(letter) != letter) {
+        throw new IllegalArgumentException("Not an upper case letter: " + letter);
+      }
+
+      lowest = (char) Math.min(lowest, letter);
+      highest = (char) Math.max(highest, letter);
+    }
+
+    byte[] indexes = new byte[highest - lowest + 1];
+    Arrays.fill(indexes, (byte) -1);
+
+    for (int i = 0; i < letters.length(); i++) {
+      int offset = letters.charAt(i) - lowest;
+
+      if (indexes[offset] >= 0) {
+        throw new IllegalArgumentException("Duplicate letter: " + letters.charAt(i));
+      }
+      indexes[offset] = (byte) i;
+    }
+
+    return new Alphabet(letters, lowest, indexes);
+  }
+
+  /**
+   * Returns the alphabet used if none is specified. It is taken from the
+   * system property {@code hangman.alphabet}, defaulting to {@link #LATIN}.
+   *
+   * @return The alphabet.
+   * @throws IllegalArgumentException if the system property holds invalid
+   *     letters.
+   */
+  public static synchronized Alphabet getDefault() {
+    if (defaultAlphabet == null) {
+      String letters = System.getProperty("hangman.alphabet");
+      defaultAlphabet = letters == null ? LATIN : of(letters);
+    }
+
+    return defaultAlphabet;
+  }
+
+  /** Returns the {@link #letters letters in order}. */
+  public String getLetters() {
+    return this.letters;
+  }
+
+  /** Returns the amount of letters. */
+  public int size() {
+    return this.letters.length();
+  }
+
+  /**
+   * Returns the index of a letter.
+   *
+   * @param chr Character to look up.
+   * @return The index, or {@code -1} if the character is not a letter of
+   *     this alphabet.
+   */
+  public int indexOf(char chr) {
+    int offset = chr - this.lowest;
+    return offset >= 0 && offset < this.indexes.length ? this.indexes[offset] : -1;
+  }
+
+  /**
+   * Returns the letter at an index.
+   *
+   * @param index Index of the letter.
+   * @return The letter.
+   */
+  public char letterAt(int index) {
+    return this.letters.charAt(index);
+  }
+
+  /**
+   * Returns {@code true} if a character is a letter of this alphabet,
+   * {@code false} otherwise.
+   *
+   * @param chr Character to check.
+   */
+  public boolean contains(char chr) {
+    return indexOf(chr) >= 0;
+  }
+
+  /**
+   * Returns the bit representing a letter in a bitmask. Bit {@code i}
+   * represents the letter at index {@code i}.
+   *
+   * @param chr Character to represent.
+   * @return The bit, or {@code 0} if the character is not a letter of this
+   *     alphabet.
+   */
+  public long bitOf(char chr) {
+    int index = indexOf(chr);
+    return index < 0 ? 0 : 1L << index;
+  }
+
+  /**
+   * Returns the letters contained in a word as a bitmask, see {@link
+   * #bitOf(char)}.
+   *
+   * @param word Word to scan.
+   * @return The bitmask. Characters that are not letters are ignored.
+   */
+  public long maskOf(CharSequence word) {
+    long mask = 0;
+
+    for (int i = 0; i < word.length(); i++) {
+      mask |= bitOf(word.charAt(i));
+    }
+
+    return mask;
+  }
+
+  /**
+   * Checks if a word consists of letters of this alphabet only and contains
+   * at least one letter.
+   *
+   * @param word Word to check.
+   * @return {@code true} if the word is valid, {@code false} otherwise.
+   */
+  public boolean isValidWord(CharSequence word) {
+    if (word == null || word.length() == 0) {
+      return false;
+    }
+
+    for (int i = 0; i < word.length(); i++) {
+      if (indexOf(word.charAt(i)) < 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if the letters of this alphabet are the first
+   * letters of another alphabet in the same order, so that bitmasks of this
+   * alphabet are valid for the other one, {@code false} otherwise.
+   *
+   * @param other The other alphabet.
+   */
+  public boolean isPrefixOf(Alphabet other) {
+    return other.letters.startsWith(this.letters);
+  }
+
+  /**
+   * Separates the characters of a text by blanks, e.g. for displaying the
+   * guess status.
+   *
+   * @param text The text.
+   * @return The separated text.
+   */
+  public static String spaced(CharSequence text) {
+    if (text.length() < 2) {
+      return text.toString();
+    }
+
+    char[] spaced = new char[text.length() * 2 - 1];
+
+    for (int i = 0; i < text.length(); i++) {
+      spaced[i * 2] = text.charAt(i);
+      if (i > 0) {
+        spaced[i * 2 - 1] = ' ';
+      }
+    }
+
+    return new String(spaced);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof Alphabet && ((Alphabet) other).letters.equals(this.letters);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.letters.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.letters;
+  }
+}
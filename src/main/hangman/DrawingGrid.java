@@ -0,0 +1,283 @@
+package main.hangman;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled drawing grid that defines how the hanged man is drawn for any
+ * amount of wrong guesses.
+ *
+ * <p>Grids are written in a textual format with one line per row of the
+ * drawing. Each row is a sequence of cells separated by whitespace. A cell
+ * is written as {@code N: 'text'}, where {@code N} is the amount of wrong
+ * guesses to match or exceed for the text to be drawn, or as
+ * {@code <: 'text'} to reuse the amount of the previous cell of the row. The
+ * text of a cell extends to the next single quote; tabs within it count as
+ * a single blank. Cells that are not drawn yet are left blank, so that every
+ * cell keeps its position.
+ *
+ * <p>On compilation, the rows are rendered once for every amount of wrong
+ * guesses up to the greatest amount of the grid, so that drawing any state
+ * is a single array lookup. Compiled grids are immutable and cached by file.
+ *
+ * @author Neufeld-Martin
+ */
+public class DrawingGrid {
+  /** File the default grid is read from, if present. */
+  public static final Path DEFAULT_PATH = Path.of("src", "files", "hangman-grid");
+
+  /** The grid used if no grid file is available. */
+  private static final String BUILT_IN = String.join("\n",
+      "4: '+' 5: '-' 5: '-' 6: '-' 6: '-' 7: '+'",
+      "4: '|' 7: ' ' <: ' ' <: ' ' <: ' ' <: '|'",
+      "3: '|' 8: ' ' <: ' ' <: ' ' <: ' ' <: 'O'",
+      "3: '|' 8: ' ' <: ' ' <: ' ' <: '-' <: '+-'",
+      "2: '|' 9: ' ' <: ' ' <: ' ' <: ' ' <: '|'",
+      "2: '|' 9: ' ' <: ' ' <: ' ' <: '/' <: ' \\'",
+      "1: '|'",
+      "1: '='"
+  );
+
+  /** Compiled grids by absolute file path. */
+  private static final Map<Path, DrawingGrid> CACHE = new ConcurrentHashMap<>();
+
+  /** The compiled built-in grid. */
+  private static final DrawingGrid BUILT_IN_GRID = compile(BUILT_IN);
+
+  /**
+   * The default grid and the value of the system property {@code
+   * hangman.grid} it was determined for, or {@code null} if not determined
+   * yet.
+   */
+  private static volatile Map.Entry<String, DrawingGrid> defaultGrid;
+
+  /**
+   * The rendered rows for every amount of wrong guesses. The entry at index
+   * {@code i} holds the rows drawn for {@code i} wrong guesses.
+   */
+  private final String[][] levels;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param levels the {@link #levels rendered rows for every amount of wrong
+   *     guesses}.
+   */
+  private DrawingGrid(String[][] levels) {
+    this.levels = levels;
+  }
+
+  /**
+   * Returns the grid to draw with. It is read from the file named by the
+   * system property {@code hangman.grid}, else from {@link #DEFAULT_PATH} if
+   * that file exists, else the built-in grid is used. The grid is
+   * determined once and shared by all callers until the system property
+   * changes.
+   *
+   * @return The grid.
+   * @throws UncheckedIOException if the grid file cannot be read.
+   * @throws IllegalArgumentException if the grid file is malformed.
+   */
+  public static DrawingGrid getDefault() {
+    String path = System.getProperty("hangman.grid");
+    Map.Entry<String, DrawingGrid> grid = defaultGrid;
+
+    if (grid == null || !Objects.equals(grid.getKey(), path)) {
+      grid = new AbstractMap.SimpleImmutableEntry<>(path, resolveDefault(path));
+      defaultGrid = grid;
+    }
+
+    return grid.getValue();
+  }
+
+  /**
+   * Determines the default grid, see {@link #getDefault()}.
+   *
+   * @param path Value of the system property {@code hangman.grid}, or
+   *     {@code null} if not set.
+   * @return The grid.
+   */
+  private static DrawingGrid resolveDefault(String path) {
+    if (path != null) {
+      return load(Path.of(path));
+    }
+
+    return Files.isReadable(DEFAULT_PATH) ? load(DEFAULT_PATH) : BUILT_IN_GRID;
+  }
+
+  /**
+   * Returns the compiled grid of a file. Each file is read and compiled only
+   * once.
+   *
+   * @param path The grid file.
+   * @return The grid.
+   * @throws UncheckedIOException if the file cannot be read.
+   * @throws IllegalArgumentException if the file is malformed.
+   */
+  public static DrawingGrid load(Path path) {
+    return CACHE.computeIfAbsent(path.toAbsolutePath().normalize(), absolutePath -> {
+      try {
+        return compile(Files.readString(absolutePath));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Compiles a grid from its textual form.
+   *
+   * @param source The grid in textual form.
+   * @return The grid.
+   * @throws IllegalArgumentException if the grid is malformed.
+   */
+  public static DrawingGrid compile(String source) {
+    List<int[]> rowThresholds = new ArrayList<>();
+    List<String[]> rowCells = new ArrayList<>();
+    String[] lines = source.split("\r?\n", -1);
+    int maxThreshold = 0;
+
+    for (int i = 0; i < lines.length; i++) {
+      if (lines[i].isBlank() && i == lines.length - 1) {
+        break;
+      }
+
+      List<String> cells = new ArrayList<>();
+      int[] thresholds = parseRow(lines[i], i + 1, cells);
+
+      rowThresholds.add(thresholds);
+      rowCells.add(cells.toArray(new String[0]));
+
+      for (int threshold : thresholds) {
+        maxThreshold = Math.max(maxThreshold, threshold);
+      }
+    }
+
+    String[][] levels = new String[maxThreshold + 1][];
+
+    for (int level = 0; level <= maxThreshold; level++) {
+      levels[level] = new String[rowCells.size()];
+
+      for (int row = 0; row < rowCells.size(); row++) {
+        levels[level][row] = renderRow(rowThresholds.get(row), rowCells.get(row), level);
+      }
+    }
+
+    return new DrawingGrid(levels);
+  }
+
+  /**
+   * Parses a row of a grid.
+   *
+   * @param line The row in textual form.
+   * @param lineNumber Number of the line, used in error messages.
+   * @param cells Destination of the texts of the cells.
+   * @return The amount of wrong guesses of each cell.
+   * @throws IllegalArgumentException if the row is malformed.
+   */
+  private static int[] parseRow(String line, int lineNumber, List<String> cells) {
+    int[] thresholds = new int[8];
+    int position = 0;
+
+    while (true) {
+      while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+        position++;
+      }
+      if (position == line.length()) {
+        break;
+      }
+
+      int colon = line.indexOf(':', position);
+      if (colon < 0) {
+        throw malformed(lineNumber, "expected ':' at column " + (position + 1));
+      }
+
+      String key = line.substring(position, colon).trim();
+      int threshold;
+
+      if (key.equals("<")) {
+        if (cells.isEmpty()) {
+          throw malformed(lineNumber, "'<:' without a preceding cell");
+        }
+        threshold = thresholds[cells.size() - 1];
+      } else {
+        try {
+          threshold = Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+          throw malformed(lineNumber, "invalid amount of wrong guesses '" + key + "'");
+        }
+      }
+
+      int open = line.indexOf('\'', colon + 1);
+      int close = open < 0 ? -1 : line.indexOf('\'', open + 1);
+      if (close < 0 || !line.substring(colon + 1, open).isBlank()) {
+        throw malformed(lineNumber, "expected quoted text after column " + (colon + 1));
+      }
+
+      if (cells.size() == thresholds.length) {
+        thresholds = Arrays.copyOf(thresholds, thresholds.length * 2);
+      }
+      thresholds[cells.size()] = threshold;
+      cells.add(line.substring(open + 1, close).replace('\t', ' ').intern());
+      position = close + 1;
+    }
+
+    return Arrays.copyOf(thresholds, cells.size());
+  }
+
+  /**
+   * Creates the exception for a malformed grid.
+   *
+   * @param lineNumber Number of the malformed line.
+   * @param message Description of the problem.
+   * @return The exception.
+   */
+  private static IllegalArgumentException malformed(int lineNumber, String message) {
+    return new IllegalArgumentException(
+        String.format("Malformed drawing grid, line %d: %s", lineNumber, message)
+    );
+  }
+
+  /**
+   * Renders a row of a grid. Cells that are not drawn yet are left blank;
+   * trailing blanks are removed.
+   *
+   * @param thresholds The amount of wrong guesses of each cell.
+   * @param cells The texts of the cells.
+   * @param level The amount of wrong guesses to render.
+   * @return The rendered row.
+   */
+  private static String renderRow(int[] thresholds, String[] cells, int level) {
+    StringBuilder row = new StringBuilder();
+
+    for (int i = 0; i < cells.length; i++) {
+      row.append(thresholds[i] <= level ? cells[i] : " ".repeat(cells[i].length()));
+    }
+
+    return row.toString().stripTrailing();
+  }
+
+  /** Returns the amount of rows. */
+  public int getHeight() {
+    return this.levels[0].length;
+  }
+
+  /**
+   * Returns the rows drawn for an amount of wrong guesses.
+   *
+   * @param wrongGuesses The amount of wrong guesses.
+   * @return The rows. Must not be modified.
+   */
+  public String[] render(int wrongGuesses) {
+    return this.levels[Math.max(0, Math.min(wrongGuesses, this.levels.length - 1))];
+  }
+}
@@ -1,29 +1,69 @@
 package main.hangman;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.io.PrintStream;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import main.io.Port;
+import main.metrics.Metrics;
+import main.metrics.Timer;
+import main.simulation.Guess;
+import main.simulation.Guesser;
 
 /**
  * This class serves the purpose of playing a game of Hangman on a terminal
- * screen.
+ * screen. All input and output goes through a {@link Port}.
  * 
  * @author Neufeld-Martin
  */
 public class Game {
-  /** Scanner for command-line input. */
-  Scanner scanner;
+  /** Duration of a turn, from the first prompt to the applied guess. */
+  private static final Timer TURN_TIMER = Metrics.timer("game.turn");
 
-  /** Sets the {@link #scanner scanner} for command-line input. */
-  private void setScanner(Scanner scanner) {
-    this.scanner = scanner;
+  /** Message rejecting a word guess that fails the {@link #consistencyCheck consistency check}. */
+  private static final String CONTRADICTED_MESSAGE =
+      "Input is invalid. Your word contradicts the letters guessed so far.";
+
+  /** Key starting a word guess in {@link #keyInput key input} mode. */
+  private static final char WORD_KEY = '/';
+
+  /** Key asking for a hint in {@link #keyInput key input} mode. */
+  private static final char HINT_KEY = '?';
+
+  /** Key starting an escape sequence, e.g. of an arrow key. */
+  private static final char ESCAPE_KEY = 27;
+
+  /** Key deleting the last letter of a word guess in {@link #keyInput key input} mode. */
+  private static final char DELETE_KEY = 127;
+
+  /** Amount of won games. */
+  private static final LongAdder WON_COUNTER = Metrics.counter("game.won");
+
+  /** Amount of lost games. */
+  private static final LongAdder LOST_COUNTER = Metrics.counter("game.lost");
+
+  /** Amount of character guesses. */
+  private static final LongAdder CHAR_GUESS_COUNTER = Metrics.counter("game.guesses.char");
+
+  /** Amount of word guesses. */
+  private static final LongAdder WORD_GUESS_COUNTER = Metrics.counter("game.guesses.word");
+
+  /** The port the game is played through. */
+  private Port port;
+
+  /** Sets the {@link #port port the game is played through}. */
+  private void setPort(Port port) {
+    this.port = port;
+  }
+
+  /** Returns the {@link #port port the game is played through}. */
+  public Port getPort() {
+    return this.port;
   }
 
-  /** Returns the {@link #scanner scanner} for command-line input. */
-  public Scanner getScanner() {
-    return this.scanner;
+  /** Returns the stream for output of the {@link #port port}. */
+  public PrintStream getOut() {
+    return getPort().out();
   }
 
   /** The printer to output information about the game. */
@@ -35,154 +75,278 @@ public class Game {
   }
 
   /** Returns the {@link #printer printer} to output information about the game. */
-  private Printer getPrinter() {
+  public Printer getPrinter() {
     return this.printer;
   }
 
   /**
-   * The word to guess. Only letters A-Z are supported. Whitespaces will be
-   * trimmed and the word will be converted to upper case.  
+   * Computer guesser giving hints to player two, or playing in their place if
+   * {@link #autoPlay auto play} is enabled. {@code null} if not available.
    */
-  private String wordToGuess;
+  private Guesser assistant;
 
-  /** Sets the {@link #wordToGuess word to guess}. */
-  private void setWordToGuess(String wordToGuess) {
-    this.wordToGuess = wordToGuess;
+  /** Sets the {@link #assistant computer guesser}. */
+  public void setAssistant(Guesser assistant) {
+    this.assistant = assistant;
   }
 
-  /** Returns the {@link #wordToGuess word to guess}. */
-  public String getWordToGuess() {
-    return this.wordToGuess;
+  /** Returns the {@link #assistant computer guesser}. */
+  private Guesser getAssistant() {
+    return this.assistant;
+  }
+
+  /** Whether the {@link #assistant computer guesser} plays instead of player two. */
+  private boolean autoPlay;
+
+  /** Sets whether the {@link #assistant computer guesser} plays instead of player two. */
+  public void setAutoPlay(boolean autoPlay) {
+    this.autoPlay = autoPlay;
+  }
+
+  /** Returns whether the {@link #assistant computer guesser} plays instead of player two. */
+  private boolean isAutoPlay() {
+    return this.autoPlay;
   }
 
   /**
-   * The guess status. Correctly guessed characters are revealed, whereas
-   * characters that are not yet guessed are replaced by an underscore.
+   * Whether player two guesses by single keys instead of by answering
+   * prompts, see {@link #letPlayerPressKey()}. Requires a port passing on
+   * input key by key, see {@link Port#nextKey()}.
    */
-  private String guessStatus = null;
+  private boolean keyInput;
 
-  /** Sets the {@link #guessStatus guess status}. */
-  private void setGuessStatus(String guessStatus) {
-    this.guessStatus = guessStatus;
+  /** Sets whether player two {@link #keyInput guesses by single keys}. */
+  public void setKeyInput(boolean keyInput) {
+    this.keyInput = keyInput;
   }
 
-  /** Returns the {@link #guessStatus guess status}. */
-  public String getGuessStatus() {
-    return this.guessStatus;
+  /** Returns whether player two {@link #keyInput guesses by single keys}. */
+  private boolean isKeyInput() {
+    return this.keyInput;
   }
 
   /**
-   * All guessed characters. Serves as reference for the guessing player to
-   * know which guesses were already made.
+   * Whether word guesses that {@link Round#isContradicted(String) contradict}
+   * the letters guessed so far are rejected before they count as wrong
+   * guesses.
    */
-  private List<Character> guessedChars;
+  private boolean consistencyCheck;
 
-  /** Sets all {@link #guessedChars guessed characters}. */
-  private void setGuessedChars(List<Character> guessedChars) {
-    this.guessedChars = guessedChars;
+  /** Sets whether {@link #consistencyCheck contradicting word guesses are rejected}. */
+  public void setConsistencyCheck(boolean consistencyCheck) {
+    this.consistencyCheck = consistencyCheck;
   }
 
-  /** Returns all {@link #guessedChars guessed characters}. */
-  private List<Character> getGuessedChars() {
-    return this.guessedChars;
+  /** Returns whether {@link #consistencyCheck contradicting word guesses are rejected}. */
+  private boolean isConsistencyCheck() {
+    return this.consistencyCheck;
   }
 
-  /** Returns all {@link #guessedChars guessed characters} as read-only. */
-  public List<Character> getGuessedCharsReadOnly() {
-    return Collections.unmodifiableList(getGuessedChars());
+  /** Listeners notified about state changes of the game. */
+  private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Adds a listener notified about state changes of the game.
+   * 
+   * @param listener The listener.
+   */
+  public void addListener(GameListener listener) {
+    this.listeners.add(listener);
   }
 
   /**
-   * All guessed words. Serves as reference for the guessing player to know
-   * which guesses were already made.
+   * Removes a listener.
+   * 
+   * @param listener The listener.
    */
-  private List<String> guessedWords;
+  public void removeListener(GameListener listener) {
+    this.listeners.remove(listener);
+  }
+
+  /** The round being played, holding the state of the game. */
+  private Round round;
 
-  /** Sets all {@link #guessedWords guessed words}. */
-  private void setGuessedWords(List<String> guessedWords) {
-    this.guessedWords = guessedWords;
+  /** Sets the {@link #round round being played}. */
+  private void setRound(Round round) {
+    this.round = round;
   }
 
-  /** Returns all {@link #guessedWords guessed words}. */
-  private List<String> getGuessedWords() {
-    return this.guessedWords;
+  /** Returns the {@link #round round being played}. */
+  public Round getRound() {
+    return this.round;
   }
 
-  /** Returns all {@link #guessedWords guessed words} as read-only. */
-  public List<String> getGuessedWordsReadOnly() {
-    return Collections.unmodifiableList(getGuessedWords());
+  /** Returns the word to guess. */
+  public String getWordToGuess() {
+    return getRound().getWordToGuess();
   }
 
-  /** Current amount of wrong guesses. */
-  private int wrongGuesses;
+  /**
+   * Returns the guess status. Correctly guessed characters are revealed,
+   * whereas characters that are not yet guessed are replaced by an underscore.
+   */
+  public String getGuessStatus() {
+    return getRound().getGuessStatus();
+  }
 
-  /** Sets the {@link #wrongGuesses current amount of wrong guesses}. */
-  private void setWrongGuesses(int wrongGuesses) {
-    this.wrongGuesses = wrongGuesses;
+  /** Returns all guessed characters as read-only. */
+  public List<Character> getGuessedCharsReadOnly() {
+    return getRound().getGuessedCharsReadOnly();
   }
 
-  /** Returns the {@link #wrongGuesses current amount of wrong guesses}. */
+  /** Returns all guessed words as read-only. */
+  public List<String> getGuessedWordsReadOnly() {
+    return getRound().getGuessedWordsReadOnly();
+  }
+
+  /** Returns the current amount of wrong guesses. */
   public int getWrongGuesses() {
-    return this.wrongGuesses;
+    return getRound().getWrongGuesses();
   }
 
-  /** Maximum amount of wrong guesses. */
-  private int maxGuesses;
+  /** Returns the maximum amount of wrong guesses. */
+  public int getMaxGuesses() {
+    return getRound().getMaxGuesses();
+  }
 
-  /** Sets the {@link #maxGuesses maximum amount of wrong guesses}. */
-  private void setMaxGuesses(int maxGuesses) {
-    this.maxGuesses = maxGuesses;
+  /**
+   * Constructs an instance of this class without a word to guess. The game
+   * must be {@link #reset(String, int) reset} before it is played.
+   * 
+   * @param port the {@link #port port the game is played through}.
+   */
+  public Game(Port port) {
+    setPort(port);
+    setPrinter(new Printer(this, port));
   }
 
-  /** Returns the {@link #maxGuesses maximum amount of wrong guesses}. */
-  public int getMaxGuesses() {
-    return this.maxGuesses;
+  /**
+   * Constructs an instance of this class.
+   * 
+   * @param port the {@link #port port the game is played through}.
+   * @param maxGuesses the maximum amount of wrong guesses.
+   */
+  public Game(Port port, int maxGuesses) {
+    this(port, maxGuesses, null);
   }
 
   /**
    * Constructs an instance of this class.
    * 
-   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @param port the {@link #port port the game is played through}.
+   * @param maxGuesses the maximum amount of wrong guesses.
+   * @param wordToGuess the word to guess, or {@code null} to prompt player
+   *     one for it.
+   */
+  public Game(Port port, int maxGuesses, String wordToGuess) {
+    this(port);
+    reset(wordToGuess, maxGuesses);
+  }
+
+  /**
+   * Constructs an instance of this class continuing a round, e.g. one that
+   * was restored after a crash.
+   * 
+   * @param port the {@link #port port the game is played through}.
+   * @param round the {@link #round round} to continue.
+   */
+  public Game(Port port, Round round) {
+    this(port);
+    setRound(round);
+  }
+
+  /**
+   * Starts a new round with another word on the same port, keeping the
+   * listeners and settings of the game. The {@link #round round} and the
+   * {@link #printer printer} are reused, so that playing several games in a
+   * row allocates next to nothing.
+   * 
+   * @param wordToGuess the word to guess, or {@code null} to prompt player
+   *     one for it.
+   * @param maxGuesses the maximum amount of wrong guesses.
+   */
+  public void reset(String wordToGuess, int maxGuesses) {
+    String word = wordToGuess == null ? promptWordToGuess() : wordToGuess;
+
+    if (getRound() == null) {
+      setRound(new Round(word, maxGuesses));
+    } else {
+      getRound().reset(word, maxGuesses);
+    }
+  }
+
+  /**
+   * Moves the game to another port, e.g. when it is taken from a {@link
+   * GamePool pool} for another connection.
+   * 
+   * @param port the {@link #port port the game is played through}.
+   */
+  void attach(Port port) {
+    setPort(port);
+    getPrinter().reset(port);
+  }
+
+  /**
+   * Drops the listeners and settings of the game, so that it can be handed
+   * out again by a {@link GamePool pool} as if newly constructed.
    */
-  public Game(Scanner scanner, int maxGuesses) {
-    setScanner(scanner);
-    setPrinter(new Printer(this));
-    setWordToGuess(promptWordToGuess());
-    setGuessStatus(getWordToGuess().replaceAll(".", "_"));
-    setGuessedChars(new ArrayList<>());
-    setGuessedWords(new ArrayList<>());
-    setMaxGuesses(maxGuesses);
+  void recycle() {
+    this.listeners.clear();
+    setAssistant(null);
+    setAutoPlay(false);
+    setKeyInput(false);
+    setConsistencyCheck(false);
+    getPrinter().close();
   }
 
-  /** Plays the game until either player has won. */
+  /**
+   * Plays the game until either player has won. A round that is already
+   * over, e.g. a resumed one, is only displayed with its result.
+   */
   public void play() {
+    this.listeners.forEach(listener -> listener.gameStarted(this));
     getPrinter().initializeScreen();
 
-    while (true) {
+    while (!playerWon() && !playerLost()) {
+      long start = TURN_TIMER.start();
       letPlayerGuess();
+      TURN_TIMER.stop(start);
       getPrinter().updateScreen();
+    }
 
-      if (playerWon()) {
-        getPrinter().printSeparator();
-        System.out.println("Congratulations, you won!");
-        break;
-      }
+    getPrinter().finishAnimation();
+    this.listeners.forEach(listener -> listener.gameEnded(this, playerWon()));
+    getPrinter().printSeparator();
 
-      if (playerLost()) {
-        getPrinter().printSeparator();
-        System.out.println("Oh no, you lost!");
-        break;
-      }
+    if (playerWon()) {
+      WON_COUNTER.increment();
+      getOut().println("Congratulations, you won!");
+    } else {
+      LOST_COUNTER.increment();
+      getOut().println("Oh no, you lost!");
     }
 
-    System.out.printf("The word to guess was: %s%n", getWordToGuess());
+    getOut().printf("The word to guess was: %s%n", getWordToGuess());
+    getPort().flush();
+    getPrinter().close();
   }
 
   /**
    * Lets player two make a guess. The player will be asked to either guess
-   * a character or a word.
+   * a character or a word, or to ask for a hint if a {@link #assistant
+   * computer guesser} is available.
    */
   private void letPlayerGuess() {
+    if (isAutoPlay()) {
+      letComputerGuess();
+      return;
+    }
+
+    if (isKeyInput()) {
+      letPlayerPressKey();
+      return;
+    }
+
     switch (promptGuessMode()) {
       case 1:
         letPlayerGuessChar();
@@ -191,26 +355,169 @@ public class Game {
       case 2:
         letPlayerGuessWord();
         break;
+
+      case 3:
+        getOut().printf("Hint: try to guess %s.%n", getAssistant().nextGuess(getRound()));
+        letPlayerGuess();
+        break;
       
       default:
     }
   }
 
   /**
-   * Prompts player one to provide a {@link #wordToGuess word to guess}.
+   * Lets player two make a guess by pressing keys: a letter guesses that
+   * character, the {@link #WORD_KEY word key} followed by the letters of a
+   * word and enter guesses that word, and the {@link #HINT_KEY hint key}
+   * asks for a hint if a {@link #assistant computer guesser} is available.
+   * Letters already guessed are rejected as soon as they are pressed.
+   */
+  private void letPlayerPressKey() {
+    while (true) {
+      getOut().print(
+          getAssistant() == null
+              ? "Press a letter to guess it, '" + WORD_KEY + "' to guess a word: "
+              : "Press a letter to guess it, '" + WORD_KEY + "' to guess a word, '"
+                  + HINT_KEY + "' for a hint: "
+      );
+      char key = nextVisibleKey();
+      char guessedChar = Character.toUpperCase(key);
+      getOut().println(guessedChar);
+
+      if (key == WORD_KEY) {
+        String guessedWord = readWordGuess();
+
+        if (guessedWord != null) {
+          guessWord(guessedWord);
+          return;
+        }
+      } else if (key == HINT_KEY && getAssistant() != null) {
+        getOut().printf("Hint: try to guess %s.%n", getAssistant().nextGuess(getRound()));
+      } else if (!isValidChar(guessedChar)) {
+        getOut().println("Input is invalid. Your guess must be a letter of the alphabet.");
+      } else if (getRound().isGuessedChar(guessedChar)) {
+        getOut().println("Input is invalid. You already guessed that letter.");
+      } else {
+        guessChar(guessedChar);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Reads the next key that is neither whitespace nor a control character,
+   * e.g. skipping the line break left over from the previous prompt.
+   *
+   * @return The key.
+   */
+  private char nextVisibleKey() {
+    while (true) {
+      char key = nextKey();
+
+      if (!Character.isWhitespace(key) && !Character.isISOControl(key)) {
+        return key;
+      }
+    }
+  }
+
+  /**
+   * Reads the next key, skipping escape sequences as sent by e.g. the arrow
+   * keys, so that their trailing characters are not taken for guesses.
+   *
+   * @return The key.
+   */
+  private char nextKey() {
+    while (true) {
+      char key = getPort().nextKey();
+
+      if (key != ESCAPE_KEY) {
+        return key;
+      }
+
+      key = getPort().nextKey();
+      if (key != '[' && key != 'O') {
+        return key;
+      }
+
+      do {
+        key = getPort().nextKey();
+      } while (key < '@' || key > '~');
+    }
+  }
+
+  /**
+   * Reads a word guess key by key, echoing the letters as they are pressed.
+   * Keys that are not letters are ignored, as are letters exceeding the
+   * length of the word to guess. The guess is finished by enter, and
+   * cancelled by enter without letters.
+   *
+   * @return The guessed word, or {@code null} if the guess was cancelled or
+   *     is invalid.
+   */
+  private String readWordGuess() {
+    getOut().print("Please guess a word: ");
+    StringBuilder guessedWord = new StringBuilder(getWordToGuess().length());
+
+    while (true) {
+      char key = nextKey();
+      char letter = Character.toUpperCase(key);
+
+      if (key == '\r' || key == '\n') {
+        getOut().println();
+        break;
+      } else if (key == DELETE_KEY || key == '\b') {
+        if (guessedWord.length() > 0) {
+          guessedWord.setLength(guessedWord.length() - 1);
+          getOut().print("\b \b");
+        }
+      } else if (isValidChar(letter) && guessedWord.length() < getWordToGuess().length()) {
+        guessedWord.append(letter);
+        getOut().print(letter);
+      }
+    }
+
+    if (guessedWord.length() == 0) {
+      return null;
+    } else if (guessedWord.length() != getWordToGuess().length()) {
+      getOut().println("Input is invalid. Your word must be of the same length as the word to guess.");
+    } else if (getRound().isGuessedWord(guessedWord.toString())) {
+      getOut().println("Input is invalid. You already guessed that word.");
+    } else if (isContradicted(guessedWord.toString())) {
+      getOut().println(CONTRADICTED_MESSAGE);
+    } else {
+      return guessedWord.toString();
+    }
+
+    return null;
+  }
+
+  /** Lets the {@link #assistant computer guesser} make a guess in place of player two. */
+  private void letComputerGuess() {
+    Guess guess = getAssistant().nextGuess(getRound());
+    getOut().printf("The computer guesses %s.%n", guess);
+
+    if (guess.isWord()) {
+      guessWord(guess.getWord());
+    } else {
+      guessChar(guess.getChar());
+    }
+  }
+
+  /**
+   * Prompts player one to provide a word to guess.
    * 
-   * @return the {@link #wordToGuess word to guess}.
+   * @return the word to guess.
    */
   private String promptWordToGuess() {
     while (true) {
-      System.out.print("Please enter the word to guess: ");
-      String wordToGuess = getScanner().next().trim().toUpperCase();
+      getOut().print("Please enter the word to guess: ");
+      String wordToGuess = getPort().next().trim().toUpperCase();
   
       if (isValidWord(wordToGuess)) {
         return wordToGuess;
       }
 
-      System.out.println(
+      getOut().println(
           "Input is invalid." +
           "Your word must only consist of letters and contain at least one letter."
       );
@@ -224,12 +531,17 @@ public class Game {
    * @return One of the following modes represented as integers:<ul>
    *     <li>{@code 1} - guess character.</li>
    *     <li>{@code 2} - guess word.</li>
+   *     <li>{@code 3} - ask for a hint.</li>
    *     </ul>
    */
   private int promptGuessMode() {
     while (true) {
-      System.out.print("What do you want to guess? ['c' = character, 'w' = word]: ");
-      Character answer = getScanner().next().trim().toLowerCase().charAt(0);
+      getOut().print(
+          getAssistant() == null
+              ? "What do you want to guess? ['c' = character, 'w' = word]: "
+              : "What do you want to guess? ['c' = character, 'w' = word, 'h' = hint]: "
+      );
+      Character answer = getPort().next().trim().toLowerCase().charAt(0);
 
       switch (answer) {
         case 'c':
@@ -238,9 +550,21 @@ public class Game {
         case 'w':
           return 2;
 
+        case 'h':
+          if (getAssistant() != null) {
+            return 3;
+          }
+          break;
+
         default:
-          System.out.println("Input is invalid. Only 'c' and 'w' are accepted.");
+          break;
       }
+
+      getOut().println(
+          getAssistant() == null
+              ? "Input is invalid. Only 'c' and 'w' are accepted."
+              : "Input is invalid. Only 'c', 'w' and 'h' are accepted."
+      );
     }
   }
 
@@ -249,23 +573,19 @@ public class Game {
    * increase of the wrong guesses counter by one.
    */
   private void letPlayerGuessChar() {
-    Character guessedChar = promptCharGuess();
-
-    getGuessedChars().add(guessedChar);
-    getGuessedChars().sort(Comparator.naturalOrder());
-
-    if (getWordToGuess().contains(guessedChar.toString())) {
-      StringBuilder stringBuilderGuessStatus = new StringBuilder(getGuessStatus());
+    guessChar(promptCharGuess());
+  }
 
-      for (int i = 0; i < getWordToGuess().length(); i++) {
-        if(getWordToGuess().charAt(i) == guessedChar) {
-          stringBuilderGuessStatus.setCharAt(i, guessedChar);
-        }
-      }
-      setGuessStatus(stringBuilderGuessStatus.toString());
-    } else {
-      setWrongGuesses(getWrongGuesses() + 1);
-    }
+  /**
+   * Applies a character guess to the {@link #round round} and notifies the
+   * listeners.
+   * 
+   * @param guessedChar The guessed character.
+   */
+  private void guessChar(char guessedChar) {
+    boolean correct = getRound().guessChar(guessedChar);
+    CHAR_GUESS_COUNTER.increment();
+    this.listeners.forEach(listener -> listener.charGuessed(this, guessedChar, correct));
   }
 
   /**
@@ -275,13 +595,13 @@ public class Game {
   */
   private Character promptCharGuess() {    
     while (true) {
-      System.out.print("Please guess a character: ");
-      Character guessedChar = getScanner().next().trim().toUpperCase().charAt(0);
+      getOut().print("Please guess a character: ");
+      Character guessedChar = getPort().next().trim().toUpperCase().charAt(0);
 
       if (!isValidChar(guessedChar)) {
-        System.out.println("Input is invalid. Your guess must be a letter.");
-      } else if (getGuessedChars().contains(guessedChar)) {
-        System.out.println("Input is invalid. You already guessed that letter.");
+        getOut().println("Input is invalid. Your guess must be a letter of the alphabet.");
+      } else if (getRound().isGuessedChar(guessedChar)) {
+        getOut().println("Input is invalid. You already guessed that letter.");
       } else {
         return guessedChar;
       }
@@ -289,37 +609,35 @@ public class Game {
   }
 
   /**
-   * Checks if the provided character is valid in the context of this game.
-   * 
-   * <p>A guessed character is valid if it is a letter between A-Z.
+   * Checks if the provided character is valid in the context of this game,
+   * i.e. a letter of the {@link #getAlphabet() alphabet}.
    * 
    * @param chr Character to check.
    * @return {@code true} if the provided character is valid, {@code false}
    *     otherwise.
    */
   private boolean isValidChar(Character chr) {
-    if (chr == null) {
-      return false;
-    }
-
-    return Character.isLetter(chr);
+    return chr != null && getAlphabet().contains(chr);
   }
 
   /**
    * Lets player two guess a word. A wrong word guess causes an increase of the
    * wrong guesses counter by two.
    */
-  private void letPlayerGuessWord() {  
-    String guessedWord = promptWordGuess();
-
-    getGuessedWords().add(guessedWord);
-    getGuessedWords().sort(Comparator.naturalOrder());
+  private void letPlayerGuessWord() {
+    guessWord(promptWordGuess());
+  }
 
-    if(guessedWord.equals(getWordToGuess())) {
-      setGuessStatus(guessedWord);
-    } else {
-      setWrongGuesses(getWrongGuesses() + 2);
-    }
+  /**
+   * Applies a word guess to the {@link #round round} and notifies the
+   * listeners.
+   * 
+   * @param guessedWord The guessed word.
+   */
+  private void guessWord(String guessedWord) {
+    boolean correct = getRound().guessWord(guessedWord);
+    WORD_GUESS_COUNTER.increment();
+    this.listeners.forEach(listener -> listener.wordGuessed(this, guessedWord, correct));
   }
 
   /**
@@ -328,15 +646,17 @@ public class Game {
    */
   private String promptWordGuess() {
     while(true) {
-      System.out.print("Please guess a word: ");
-      String guessedWord = getScanner().next().trim().toUpperCase();
+      getOut().print("Please guess a word: ");
+      String guessedWord = getPort().next().trim().toUpperCase();
 
       if (!isValidWord(guessedWord)) {
-        System.out.println("Input is invalid. Your word must only consist of letters and contain at least one letter.");
+        getOut().println("Input is invalid. Your word must only consist of letters and contain at least one letter.");
       } else if (guessedWord.length() != getWordToGuess().length()) {
-        System.out.println("Input is invalid. Your word must be of the same length as the word to guess.");
-      } else if (getGuessedWords().contains(guessedWord)) {
-        System.out.println("Input is invalid. You already guessed that word.");
+        getOut().println("Input is invalid. Your word must be of the same length as the word to guess.");
+      } else if (getRound().isGuessedWord(guessedWord)) {
+        getOut().println("Input is invalid. You already guessed that word.");
+      } else if (isContradicted(guessedWord)) {
+        getOut().println(CONTRADICTED_MESSAGE);
       } else {
         return guessedWord;
       }
@@ -344,33 +664,49 @@ public class Game {
   }
 
   /**
-   * Checks if the provided word is valid in the context of this game.
+   * Checks if a word guess is rejected by the {@link #consistencyCheck
+   * consistency check}.
    * 
-   * <p>A provided word is valid if it contains only letters between A-Z and has
-   * a length greater than or equal to 1.
+   * @param word Word to check. Must be of the same length as the word to
+   *     guess.
+   * @return {@code true} if the check is enabled and the word contradicts
+   *     the letters guessed so far, {@code false} otherwise.
+   */
+  private boolean isContradicted(String word) {
+    return isConsistencyCheck() && getRound().isContradicted(word);
+  }
+
+  /**
+   * Checks if the provided word is valid in the context of this game, i.e.
+   * consists of letters of the {@link #getAlphabet() alphabet} only.
    * 
-   * @param chr Word to check.
-   * @return {@code true} if the provided character is valid, {@code false}
+   * @param word Word to check.
+   * @return {@code true} if the provided word is valid, {@code false}
    *     otherwise.
    */
   private boolean isValidWord(String word) {
-    if (word == null) {
-      return false;
-    }
+    return getAlphabet().isValidWord(word);
+  }
 
-    return word.matches("[A-Z]+");
+  /**
+   * Returns the alphabet of the {@link #round round}, or the {@link
+   * Alphabet#getDefault() default alphabet} while the word to guess is not
+   * known yet.
+   */
+  private Alphabet getAlphabet() {
+    return getRound() == null ? Alphabet.getDefault() : getRound().getAlphabet();
   }
 
   /** Returns {@code true} if the word is guessed, {@code false} otherwise. */
   private boolean playerWon() {
-    return getGuessStatus().equals(getWordToGuess());
+    return getRound().isWon();
   }
 
   /**
-   * Returns {@code true} if the {@link #maxGuesses maximum amount of wrong
-   * guesses} is exceeded, {@code false} otherwise.
+   * Returns {@code true} if the maximum amount of wrong guesses is exceeded,
+   * {@code false} otherwise.
    */
   private boolean playerLost() {
-    return getWrongGuesses() > getMaxGuesses();
+    return getRound().isLost();
   }
 }
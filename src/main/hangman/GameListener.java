@@ -0,0 +1,46 @@
+package main.hangman;
+
+/**
+ * Listener notified about the state changes of a {@link Game}. Listeners are
+ * called on the thread playing the game and should return quickly.
+ *
+ * @author Neufeld-Martin
+ */
+public interface GameListener {
+  /**
+   * Called before the first guess of a game.
+   *
+   * @param game The game.
+   */
+  default void gameStarted(Game game) {
+  }
+
+  /**
+   * Called after a character was guessed.
+   *
+   * @param game The game.
+   * @param guessedChar The guessed character.
+   * @param correct Whether the word to guess contains the character.
+   */
+  default void charGuessed(Game game, char guessedChar, boolean correct) {
+  }
+
+  /**
+   * Called after a word was guessed.
+   *
+   * @param game The game.
+   * @param guessedWord The guessed word.
+   * @param correct Whether the word is the word to guess.
+   */
+  default void wordGuessed(Game game, String guessedWord, boolean correct) {
+  }
+
+  /**
+   * Called after either player has won.
+   *
+   * @param game The game.
+   * @param won Whether player two guessed the word.
+   */
+  default void gameEnded(Game game, boolean won) {
+  }
+}
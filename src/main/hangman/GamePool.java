@@ -0,0 +1,92 @@
+package main.hangman;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import main.io.Port;
+import main.metrics.Metrics;
+
+/**
+ * A bounded pool of games for hosting many short games, e.g. by a server.
+ *
+ * <p>A game taken from the pool is moved to the port of the caller and
+ * {@link Game#reset(String, int) reset}, reusing its round, its printer and
+ * the buffers of the printer. A game given back is stripped of its
+ * listeners and settings and kept for the next caller, unless the pool is
+ * full. Instances are thread-safe; a game must not be used after it was
+ * given back.
+ *
+ * @author Neufeld-Martin
+ */
+public class GamePool {
+  /** Maximum amount of idle games, if not specified otherwise. */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  /** Amount of games constructed because the pool was empty. */
+  private static final LongAdder CREATED = Metrics.counter("game.pool.created");
+
+  /** Amount of games taken from the pool. */
+  private static final LongAdder REUSED = Metrics.counter("game.pool.reused");
+
+  /** The idle games. */
+  private final BlockingQueue<Game> idle;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param capacity Maximum amount of idle games.
+   */
+  public GamePool(int capacity) {
+    this.idle = new ArrayBlockingQueue<>(Math.max(1, capacity));
+  }
+
+  /** Constructs an instance of this class holding up to {@link #DEFAULT_CAPACITY} idle games. */
+  public GamePool() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Takes a game from the pool, or constructs one if the pool is empty.
+   *
+   * @param port The port the game is played through.
+   * @param wordToGuess The word to guess, or {@code null} to prompt player
+   *     one for it.
+   * @param maxGuesses The maximum amount of wrong guesses.
+   * @return The game, ready to be played.
+   */
+  public Game acquire(Port port, String wordToGuess, int maxGuesses) {
+    Game game = this.idle.poll();
+
+    if (game == null) {
+      CREATED.increment();
+      game = new Game(port);
+    } else {
+      REUSED.increment();
+      game.attach(port);
+    }
+
+    try {
+      game.reset(wordToGuess, maxGuesses);
+    } catch (RuntimeException e) {
+      release(game);
+      throw e;
+    }
+
+    return game;
+  }
+
+  /**
+   * Gives a game back to the pool. It is dropped if the pool is full.
+   *
+   * @param game The game, which must not be used afterwards.
+   */
+  public void release(Game game) {
+    game.recycle();
+    this.idle.offer(game);
+  }
+
+  /** Returns the amount of idle games. */
+  public int getIdle() {
+    return this.idle.size();
+  }
+}
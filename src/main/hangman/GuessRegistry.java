@@ -0,0 +1,88 @@
+package main.hangman;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The words guessed in a round, kept in alphabetical order as they are
+ * displayed. A new word is inserted at its binary-searched position, so that
+ * the words already guessed are neither sorted nor scanned again.
+ *
+ * <p>Checking whether a word was guessed is a binary search as well, until
+ * more than {@link #INDEX_THRESHOLD} words were guessed, e.g. by a computer
+ * guesser in a round with a generous maximum of wrong guesses. From then on,
+ * the words are also kept in a hash set that answers in constant time.
+ * Short rounds thus allocate nothing beyond the list.
+ *
+ * @author Neufeld-Martin
+ */
+public class GuessRegistry {
+  /** Amount of guessed words beyond which they are kept in a hash set. */
+  private static final int INDEX_THRESHOLD = 16;
+
+  /** The guessed words in alphabetical order. */
+  private final List<String> sorted = new ArrayList<>();
+
+  /** The guessed words as a hash set, or {@code null} while there are few of them. */
+  private Set<String> index;
+
+  /** Read-only view of the {@link #sorted guessed words in alphabetical order}. */
+  private final List<String> sortedReadOnly = Collections.unmodifiableList(this.sorted);
+
+  /**
+   * Adds a guessed word.
+   *
+   * @param word The word.
+   * @return {@code true} if the word was not guessed before, {@code false}
+   *     otherwise.
+   */
+  public boolean add(String word) {
+    if (this.index != null && !this.index.add(word)) {
+      return false;
+    }
+
+    int position = Collections.binarySearch(this.sorted, word);
+
+    if (position >= 0) {
+      return false;
+    }
+
+    this.sorted.add(-position - 1, word);
+
+    if (this.index == null && this.sorted.size() > INDEX_THRESHOLD) {
+      this.index = new HashSet<>(this.sorted);
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if a word was guessed, {@code false} otherwise.
+   *
+   * @param word The word.
+   */
+  public boolean contains(String word) {
+    return this.index != null
+        ? this.index.contains(word)
+        : Collections.binarySearch(this.sorted, word) >= 0;
+  }
+
+  /** Returns the amount of guessed words. */
+  public int size() {
+    return this.sorted.size();
+  }
+
+  /** Removes all guessed words. */
+  public void clear() {
+    this.sorted.clear();
+    this.index = null;
+  }
+
+  /** Returns the {@link #sorted guessed words in alphabetical order} as read-only. */
+  public List<String> getSortedReadOnly() {
+    return this.sortedReadOnly;
+  }
+}
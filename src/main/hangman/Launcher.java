@@ -1,33 +1,308 @@
 package main.hangman;
 
 import java.io.IOException;
-import java.util.Scanner;
-import main.terminal.Screen;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import main.io.ConsolePort;
+import main.io.Port;
+import main.metrics.Metrics;
+import main.persistence.GameJournal;
+import main.simulation.WordScorer;
+import main.solver.CandidateSolver;
+import main.spectator.Frame;
+import main.spectator.Replay;
+import main.terminal.RawMode;
+import main.tournament.Leaderboard;
+import main.tournament.Tournament;
+import main.words.AdaptiveWordSource;
+import main.words.Dictionary;
+import main.words.Difficulty;
+import main.words.DictionaryWordSource;
+import main.words.WordSource;
 
 /**
  * This class serves the purpose of launching a game of Hangman.
  * 
+ * <p>Supported options:<ul>
+ *     <li>{@code --words <file>} - pick the word to guess from a word list
+ *     instead of asking player one.</li>
+ *     <li>{@code --min-length <n>}, {@code --max-length <n>} - length range
+ *     of picked words.</li>
+ *     <li>{@code --difficulty <easy|medium|hard>} - difficulty of picked
+ *     words.</li>
+ *     <li>{@code --adaptive} - pick words whose measured solve rate matches
+ *     the win rate of the guessing player, see {@link AdaptiveWordSource}.
+ *     The solve rates of new words are measured on startup; the win rates
+ *     of the players are kept in a file next to the word list.</li>
+ *     <li>{@code --player <name>} - name the win rate of the guessing player
+ *     is kept under with {@code --adaptive}, the name of the system user by
+ *     default.</li>
+ *     <li>{@code --auto} - let the computer guess; requires {@code --words}.
+ *     With {@code --words} only, the computer gives hints on request.</li>
+ *     <li>{@code --raw} - guess by single key presses instead of answering
+ *     prompts, also in tournaments, see {@link RawMode}. Ignored if the
+ *     terminal settings cannot be changed.</li>
+ *     <li>{@code --check-words} - reject word guesses contradicting the
+ *     letters guessed so far instead of counting them as wrong.</li>
+ *     <li>{@code --max-guesses <n>} - maximum amount of wrong guesses,
+ *     {@code 8} by default.</li>
+ *     <li>{@code --tournament <name,name,...>} - play a tournament between
+ *     the named players, see {@link Tournament}.</li>
+ *     <li>{@code --rounds <n>} - amount of rounds of a tournament; by
+ *     default, every player sets a word for every other player once.</li>
+ *     <li>{@code --grid <file>} - draw the hanged man as defined by a
+ *     drawing grid file, see {@link DrawingGrid}.</li>
+ *     <li>{@code --alphabet <letters>} - letters words may consist of, see
+ *     {@link Alphabet}.</li>
+ *     <li>{@code --journal <dir>} - journal the game to a directory, see
+ *     {@link GameJournal}.</li>
+ *     <li>{@code --resume <id>} - resume a journaled game; requires
+ *     {@code --journal}.</li>
+ *     <li>{@code --replay <id>} - replay a journaled game as seen by
+ *     spectators; requires {@code --journal}.</li>
+ *     <li>{@code --replay-delay <ms>} - delay between two replayed guesses,
+ *     {@code 500} by default.</li>
+ *     <li>{@code --metrics} - print the counters and timers of the session
+ *     on exit, see {@link Metrics}.</li>
+ *     <li>{@code --compile-words <file>} - compile the index of a word list
+ *     and exit.</li>
+ *     </ul>
+ * 
  * @author Neufeld-Martin
  */
 public class Launcher {
+  /** Maximum amount of wrong guesses, if not specified otherwise. */
+  private static final int DEFAULT_MAX_GUESSES = 8;
+
+  /** Delay between two replayed guesses in milliseconds, if not specified otherwise. */
+  private static final int DEFAULT_REPLAY_DELAY = 500;
+
   /**
    * Launches a game of Hangman.
    * 
    * @param args Command-line arguments.
    */
   public static void main(String[] args) {   
-    Screen.clear();
-    
-    try (
-      Scanner scanner = new Scanner(System.in);
-    ) {
-      Game game = new Game(scanner, 8);
-      game.play();
+    Options options = Options.parse(args);
+
+    if (options.has("compile-words")) {
+      try {
+        Dictionary dictionary = Dictionary.compile(Path.of(options.get("compile-words", null)));
+        System.out.printf("Compiled %d words.%n", dictionary.size());
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+      return;
+    }
+
+    if (options.has("grid")) {
+      System.setProperty("hangman.grid", options.get("grid", null));
+    }
+
+    if (options.has("alphabet")) {
+      System.setProperty("hangman.alphabet", options.get("alphabet", null));
+    }
+
+    Metrics.init();
+    Port port = new ConsolePort();
+    port.screen().clear();
+
+    try {
+      Dictionary dictionary = options.has("words")
+          ? Dictionary.open(Path.of(options.get("words", null)))
+          : null;
+      WordSource wordSource = dictionary == null
+          ? null
+          : createWordSource(Path.of(options.get("words", null)), dictionary, options);
+
+      if (options.has("replay")) {
+        replay(port, options);
+      } else if (options.has("tournament")) {
+        playTournament(port, options, dictionary, wordSource);
+      } else {
+        playGame(port, options, dictionary, wordSource);
+      }
+
+      if (wordSource instanceof AdaptiveWordSource) {
+        ((AdaptiveWordSource) wordSource).writeResults(Path.of(options.get("words", null)));
+      }
+
+      if (options.has("metrics")) {
+        port.out().printf("%n%s", Metrics.dump());
+      }
 
-      System.out.printf("%nPress enter to exit ...");
+      port.out().printf(RawMode.isEnabled() ? "%nPress any key to exit ..." : "%nPress enter to exit ...");
+      port.flush();
       System.in.read();
     } catch (IOException e) {
       e.printStackTrace();
+    } finally {
+      port.close();
+      RawMode.disable();
     }
   }
+
+  /**
+   * Replays a journaled game, see {@link Replay}.
+   * 
+   * @param port The port to replay on.
+   * @param options Command-line options.
+   * @throws IOException if the journal cannot be read.
+   */
+  private static void replay(Port port, Options options) throws IOException {
+    if (!options.has("journal")) {
+      throw new IllegalArgumentException("--replay requires --journal.");
+    }
+
+    List<Frame> frames = Replay.frames(
+        Path.of(options.get("journal", null)), options.get("replay", null)
+    );
+    long delay = options.getInt("replay-delay", DEFAULT_REPLAY_DELAY);
+
+    for (Frame frame : frames) {
+      port.out().write(frame.getContent(), 0, frame.getContent().length);
+      port.flush();
+
+      if (!frame.isLast()) {
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Plays a single game.
+   * 
+   * @param port The port to play through.
+   * @param options Command-line options.
+   * @param dictionary The dictionary to pick words from, or {@code null}.
+   * @param wordSource The source of words to guess, or {@code null}.
+   * @throws IOException if the journal cannot be accessed.
+   */
+  private static void playGame(
+      Port port, Options options, Dictionary dictionary, WordSource wordSource
+  ) throws IOException {
+    int maxGuesses = options.getInt("max-guesses", DEFAULT_MAX_GUESSES);
+    Path journalDirectory = options.has("journal") ? Path.of(options.get("journal", null)) : null;
+    String gameId = options.get("resume", Long.toString(System.currentTimeMillis(), 36));
+    String player = options.get("player", System.getProperty("user.name"));
+    boolean resumed = journalDirectory != null && options.has("resume");
+
+    Game game = resumed
+        ? new Game(port, GameJournal.resume(journalDirectory, gameId))
+        : new Game(port, maxGuesses, wordSource == null ? null : wordSource.nextWord(player));
+    if (dictionary != null) {
+      game.setAssistant(new CandidateSolver(dictionary));
+      game.setAutoPlay(options.has("auto"));
+    }
+
+    game.setConsistencyCheck(options.has("check-words"));
+    if (options.has("raw") && !options.has("auto")) {
+      game.setKeyInput(RawMode.enable());
+    }
+
+    if (journalDirectory == null) {
+      game.play();
+    } else {
+      try (
+        GameJournal journal = GameJournal.open(journalDirectory, gameId);
+      ) {
+        game.addListener(journal);
+        game.play();
+      }
+      port.out().printf("%nGame %s journaled to %s.", gameId, journalDirectory);
+    }
+
+    if (wordSource != null && !resumed) {
+      wordSource.recordResult(player, game.getRound().isWon());
+    }
+  }
+
+  /**
+   * Plays a tournament, see {@link Tournament}. With {@code --auto}, the
+   * rounds are played by computer guessers on all processors and only the
+   * final leaderboard is printed.
+   * 
+   * @param port The port to play through.
+   * @param options Command-line options.
+   * @param dictionary The dictionary to pick words from, or {@code null}.
+   * @param wordSource The source of words to guess, or {@code null}.
+   */
+  private static void playTournament(
+      Port port, Options options, Dictionary dictionary, WordSource wordSource
+  ) {
+    List<String> players = List.of(options.get("tournament", "").split(","));
+    Tournament tournament = new Tournament(
+        players,
+        options.getInt("rounds", players.size() * (players.size() - 1)),
+        options.getInt("max-guesses", DEFAULT_MAX_GUESSES),
+        wordSource,
+        new Leaderboard()
+    );
+
+    if (!options.has("auto")) {
+      tournament.setKeyInput(options.has("raw"));
+      tournament.play(port);
+      return;
+    }
+
+    if (dictionary == null) {
+      throw new IllegalArgumentException("--auto requires --words.");
+    }
+
+    long start = System.nanoTime();
+    tournament.simulate(
+        () -> new CandidateSolver(dictionary), Runtime.getRuntime().availableProcessors()
+    );
+    long elapsed = System.nanoTime() - start;
+    Leaderboard leaderboard = tournament.getLeaderboard();
+
+    port.out().printf(
+        "%d rounds in %.1f ms.%n", leaderboard.getRecorded(), elapsed / 1_000_000.0
+    );
+    leaderboard.standings().forEach(standing -> port.out().printf("  %s%n", standing));
+  }
+
+  /**
+   * Creates the source of words to guess.
+   * 
+   * @param wordList The word list of the dictionary.
+   * @param dictionary The dictionary to pick words from.
+   * @param options Command-line options.
+   * @return The word source.
+   * @throws IOException if the solve rates of the words or the win rates of
+   *     the players cannot be accessed.
+   */
+  private static WordSource createWordSource(
+      Path wordList, Dictionary dictionary, Options options
+  ) throws IOException {
+    if (options.has("adaptive")) {
+      WordScorer scorer = new WordScorer(options.getInt("max-guesses", DEFAULT_MAX_GUESSES));
+      AdaptiveWordSource wordSource = new AdaptiveWordSource(
+          dictionary,
+          scorer.update(wordList, dictionary),
+          options.getInt("min-length", 1),
+          options.getInt("max-length", Dictionary.MAX_LENGTH),
+          AdaptiveWordSource.DEFAULT_WINDOW
+      );
+
+      wordSource.readResults(wordList);
+      return wordSource;
+    }
+
+    String difficulty = options.get("difficulty", null);
+
+    return new DictionaryWordSource(
+        dictionary,
+        options.getInt("min-length", 1),
+        options.getInt("max-length", Dictionary.MAX_LENGTH),
+        difficulty == null ? null : Difficulty.valueOf(difficulty.toUpperCase(Locale.ROOT)),
+        null
+    );
+  }
 }
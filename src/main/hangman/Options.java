@@ -0,0 +1,67 @@
+package main.hangman;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of the form {@code --name value} or {@code --name}.
+ *
+ * @author Neufeld-Martin
+ */
+public class Options {
+  /** Values of all options by name. Options without value map to an empty string. */
+  private final Map<String, String> values = new HashMap<>();
+
+  /**
+   * Parses command-line arguments.
+   *
+   * @param args Command-line arguments.
+   * @return The options.
+   * @throws IllegalArgumentException if an argument is not an option.
+   */
+  public static Options parse(String[] args) {
+    Options options = new Options();
+
+    for (int i = 0; i < args.length; i++) {
+      if (!args[i].startsWith("--")) {
+        throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+      }
+
+      String name = args[i].substring(2);
+      boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+      options.values.put(name, hasValue ? args[++i] : "");
+    }
+
+    return options;
+  }
+
+  /**
+   * Returns {@code true} if an option is present, {@code false} otherwise.
+   *
+   * @param name Name of the option.
+   */
+  public boolean has(String name) {
+    return this.values.containsKey(name);
+  }
+
+  /**
+   * Returns the value of an option.
+   *
+   * @param name Name of the option.
+   * @param defaultValue Value to return if the option is not present.
+   */
+  public String get(String name, String defaultValue) {
+    return this.values.getOrDefault(name, defaultValue);
+  }
+
+  /**
+   * Returns the value of an option as integer.
+   *
+   * @param name Name of the option.
+   * @param defaultValue Value to return if the option is not present.
+   * @throws NumberFormatException if the value is not an integer.
+   */
+  public int getInt(String name, int defaultValue) {
+    return has(name) ? Integer.parseInt(get(name, null)) : defaultValue;
+  }
+}
@@ -1,15 +1,63 @@
 package main.hangman;
 
-import java.util.List;
-import javafx.util.Pair;
-import main.terminal.Screen;
+import java.io.PrintStream;
+import main.io.Port;
+import main.metrics.Metrics;
+import main.metrics.Timer;
+import main.terminal.Animator;
+import main.terminal.FrameBuffer;
+import main.terminal.ResizeListener;
+import main.terminal.ScreenBackend;
 
 /** 
  * This class serves the purpose of printing information about a Hangman game.
+ *
+ * <p>The layout adapts to the width of the screen: the separator spans the
+ * screen and stats too long for a line wrap onto the following lines. The
+ * layout is computed on the first render and again only after the screen
+ * was resized.
  * 
  * @author Neufeld-Martin
  */
 public class Printer {
+  /** Duration of screen updates. */
+  private static final Timer UPDATE_TIMER = Metrics.timer("printer.updateScreen");
+
+  /** Duration of drawing an animation frame. */
+  private static final Timer FRAME_TIMER = Metrics.timer("printer.animationFrame");
+
+  /** Keys of the rows of the stats overview, in order. */
+  private static final String[] STAT_KEYS = {
+      "Previously guessed characters",
+      "Previously guessed words",
+      "Wrong guesses",
+      "Word to guess",
+  };
+
+  /** The {@link #STAT_KEYS keys of the stats overview} padded to equal length. */
+  private static final String[] STAT_LABELS = labels(STAT_KEYS);
+
+  /** Minimum width of the values of the stats overview. */
+  private static final int MIN_VALUE_WIDTH = 16;
+
+  /** Values of the rows of the stats overview, parallel to the keys. */
+  private final String[] statValues = new String[STAT_KEYS.length];
+
+  /** Whether the layout has to be computed before the next render. */
+  private volatile boolean layoutStale = true;
+
+  /** Marks the layout as stale when the screen is resized. */
+  private final ResizeListener resizeListener = (lines, columns) -> this.layoutStale = true;
+
+  /** Whether the {@link #resizeListener resize listener} is registered. */
+  private boolean listening;
+
+  /** The separator line, spanning the screen. {@code null} until the layout is computed. */
+  private String separator;
+
+  /** Maximum width of the values of the stats overview. */
+  private int valueWidth;
+
   /** The game this printer serves. */
   private Game game;
 
@@ -23,35 +71,77 @@ public class Printer {
     return this.game;
   }
 
-  /** Previous amount of wrong guesses. */
-  private int previousWrongGuesses;
+  /** The stream this printer prints to. */
+  private PrintStream out;
+
+  /** Sets the {@link #out stream this printer prints to}. */
+  private void setOut(PrintStream out) {
+    this.out = out;
+  }
+
+  /** Returns the {@link #out stream this printer prints to}. */
+  private PrintStream getOut() {
+    return this.out;
+  }
+
+  /** The screen this printer draws on. */
+  private ScreenBackend screen;
+
+  /** Sets the {@link #screen screen this printer draws on}. */
+  private void setScreen(ScreenBackend screen) {
+    this.screen = screen;
+  }
+
+  /** Returns the {@link #screen screen this printer draws on}. */
+  private ScreenBackend getScreen() {
+    return this.screen;
+  }
+
+  /** The frame the screen content is composed into. */
+  private FrameBuffer frameBuffer;
 
-  /** Sets the {@link #previousWrongGuesses previous amount of wrong guesses}. */
-  private void setPreviousWrongGuesses(int previousWrongGuesses) {
-    this.previousWrongGuesses = previousWrongGuesses;
+  /** Sets the {@link #frameBuffer frame the screen content is composed into}. */
+  private void setFrameBuffer(FrameBuffer frameBuffer) {
+    this.frameBuffer = frameBuffer;
   }
 
-  /** Returns the {@link #previousWrongGuesses previous amount of wrong guesses}. */
-  private int getPreviousWrongGuesses() {
-    return this.previousWrongGuesses;
+  /** Returns the {@link #frameBuffer frame the screen content is composed into}. */
+  private FrameBuffer getFrameBuffer() {
+    return this.frameBuffer;
   }
 
+  /** The animator drawing newly revealed parts of the hanged man. */
+  private Animator animator;
+
   /**
-   * A two-dimensional list that defines which character is when printed when
-   * drawing the hanged man. The information is stored in form of Key-Value
-   * {@link javafx.util.Pair Pairs} {@code Pair<Integer I, String S>} where
-   * {@code I} is the amount of wrong guesses to match or exceed and {@code S}
-   * the part of the hanged man to print.
+   * Sets the {@link #animator animator}. Frames already scheduled are drawn
+   * first.
+   *
+   * @param animator The animator.
    */
-  private List<List<Pair<Integer, String>>> drawingGrid;
+  public void setAnimator(Animator animator) {
+    if (this.animator != null) {
+      this.animator.await();
+    }
+
+    this.animator = animator;
+  }
+
+  /** Returns the {@link #animator animator}. */
+  private Animator getAnimator() {
+    return this.animator;
+  }
+
+  /** The grid that defines how the hanged man is drawn. */
+  private DrawingGrid drawingGrid;
 
   /** Sets the {@link #drawingGrid drawing grid}. */
-  private void setDrawingGrid(List<List<Pair<Integer, String>>> drawingGrid) {
+  private void setDrawingGrid(DrawingGrid drawingGrid) {
     this.drawingGrid = drawingGrid;
   }
 
   /** Returns the {@link #drawingGrid drawing grid}. */
-  private List<List<Pair<Integer, String>>> getDrawingGrid() {
+  private DrawingGrid getDrawingGrid() {
     return this.drawingGrid;
   }
 
@@ -59,160 +149,266 @@ public class Printer {
    * Constructs an instance of this class.
    * 
    * @param game the {@link #game game this printer serves}.
+   * @param port The port to print to.
    */
-  public Printer(Game game) {
+  public Printer(Game game, Port port) {
     setGame(game);
-    setDrawingGrid(readDrawingGrid());
-    setPreviousWrongGuesses(0);
-  }
-
-  /** Composes a {@link #drawingGrid drawing grid}. */
-  private List<List<Pair<Integer, String>>> readDrawingGrid() {
-    return List.of(
-        List.of(
-            new Pair<>(4, "+"), new Pair<>(5, "-"), new Pair<>(5, "-"),
-            new Pair<>(6, "-"), new Pair<>(6, "-"), new Pair<>(7, "+")
-        ),
-        List.of(
-            new Pair<>(4, "|"), new Pair<>(7, " "), new Pair<>(7, " "),
-            new Pair<>(7, " "), new Pair<>(7, " "), new Pair<>(7, "|")
-        ),
-        List.of(
-            new Pair<>(3, "|"), new Pair<>(8, " "), new Pair<>(8, " "),
-            new Pair<>(8, " "), new Pair<>(8, " "), new Pair<>(8, "O")
-        ),
-        List.of(
-            new Pair<>(3, "|"), new Pair<>(8, " "), new Pair<>(8, " "),
-            new Pair<>(8, " "), new Pair<>(8, "-"), new Pair<>(8, "+-")
-        ),
-        List.of(
-            new Pair<>(2, "|"), new Pair<>(9, " "), new Pair<>(9, " "),
-            new Pair<>(9, " "), new Pair<>(9, " "), new Pair<>(9, "|")
-        ),
-        List.of(
-            new Pair<>(2, "|"), new Pair<>(9, " "), new Pair<>(9, " "),
-            new Pair<>(9, " "), new Pair<>(9, "/"), new Pair<>(9, " \\")
-        ),
-        List.of(
-            new Pair<>(1, "|")
-        ),
-        List.of(
-            new Pair<>(1, "=")
-        )
-    );
-  }
-
-  /** Initializes the screen for playing. */
+    setOut(port.out());
+    setScreen(port.screen());
+    setDrawingGrid(DrawingGrid.getDefault());
+    setFrameBuffer(new FrameBuffer(port.screen(), port.out()));
+    setAnimator(Animator.create());
+  }
+
+  /**
+   * Prepares the printer for another game printed to a port, keeping the
+   * buffers it allocated so far. Frames of the previous game still being
+   * animated are drawn first.
+   *
+   * @param port The port to print to.
+   */
+  public void reset(Port port) {
+    close();
+    finishAnimation();
+    setOut(port.out());
+    setScreen(port.screen());
+    getFrameBuffer().reset(port.screen(), port.out());
+    this.separator = null;
+    this.layoutStale = true;
+  }
+
+  /**
+   * Initializes the screen for playing. From now on, the layout follows the
+   * size of the screen until the printer is {@link #close() closed}.
+   */
   public void initializeScreen() {
-    Screen.clear();
-    printHangedMan();
-    System.out.println();
-    printStats();
-    System.out.println();
+    if (!this.listening) {
+      getScreen().addResizeListener(this.resizeListener);
+      this.listening = true;
+    }
+
+    getScreen().clear();
+    getFrameBuffer().invalidate();
+    renderScreen(false);
   }
 
-  /** Updates the information displayed on the screen. */
+  /**
+   * Updates the information displayed on the screen. Only cells that changed
+   * since the last update are redrawn; newly revealed parts of the hanged man
+   * are drawn one after another by the {@link #animator animator} while the
+   * game continues. The output is left to be flushed by the port together
+   * with the next prompt.
+   */
   public void updateScreen() {
-    Screen.setCurorPosition(getDrawingGrid().size(), 0);
-    Screen.clearFromCursorToEnd();
-    Screen.setCurorPosition(0, 0);
-    printHangedMan();
-    System.out.println();
-    printStats();
-    System.out.println();
-  }
-
-  /** Prints the hanged man. */
-  public void printHangedMan() {
-    for (int i = 0; i < getDrawingGrid().size(); i++) {
-      List<Pair<Integer, String>> currentRow = getDrawingGrid().get(i);
-
-      for (int j = 0; j < currentRow.size(); j++) {
-        Pair<Integer, String> currentPair = currentRow.get(j);
-
-          if (currentPair.getKey() <= getGame().getWrongGuesses()) {
-            if (currentPair.getKey() > getPreviousWrongGuesses()) {
-              try {
-                Thread.sleep(300);
-              } catch (InterruptedException e) {
-                e.printStackTrace();
-                System.exit(1);
-              }
-
-              System.out.print(currentPair.getValue());
-            }
-          }
+    long start = UPDATE_TIMER.start();
+    renderScreen(true);
+    UPDATE_TIMER.stop(start);
+  }
+
+  /** Waits until all newly revealed parts of the hanged man are drawn. */
+  public void finishAnimation() {
+    getAnimator().await();
+  }
+
+  /** Stops following the size of the screen. */
+  public void close() {
+    if (this.listening) {
+      getScreen().removeResizeListener(this.resizeListener);
+      this.listening = false;
+    }
+  }
+
+  /**
+   * Computes the layout if it is stale.
+   *
+   * @return {@code true} if the layout changed after something was drawn
+   *     with the previous layout, {@code false} otherwise.
+   */
+  private boolean updateLayout() {
+    if (!this.layoutStale) {
+      return false;
+    }
+
+    this.layoutStale = false;
+    boolean drawn = this.separator != null;
+    int columns = getScreen().getColumns();
+
+    this.separator = "# " + "-".repeat(Math.max(1, columns - 4)) + " #";
+    this.valueWidth = Math.max(MIN_VALUE_WIDTH, columns - STAT_LABELS[0].length());
+    return drawn;
+  }
+
+  /**
+   * Composes the screen content and writes the cells that changed.
+   *
+   * @param animate Whether to hand changed parts of the hanged man to the
+   *     {@link #animator animator} instead of drawing them immediately.
+   */
+  private void renderScreen(boolean animate) {
+    FrameBuffer frameBuffer = getFrameBuffer();
+
+    synchronized (getOut()) {
+      if (updateLayout()) {
+        getScreen().clear();
+        frameBuffer.invalidate();
+        animate = false;
+      }
+
+      frameBuffer.clear();
+      drawHangedMan();
+      drawStats(getDrawingGrid().getHeight() + 1);
+
+      for (FrameBuffer.Run run : frameBuffer.diff()) {
+        if (animate && run.getLine() < getDrawingGrid().getHeight()) {
+          getAnimator().schedule(() -> renderDetached(run));
+        } else {
+          frameBuffer.render(run);
+        }
       }
 
-      System.out.println();
+      frameBuffer.moveCursor(frameBuffer.getHeight() + 1, 0);
+      getScreen().clearFromCursorToEnd();
+      frameBuffer.forgetCursor();
+    }
+  }
+
+  /**
+   * Writes a run without moving the cursor away from where the game
+   * currently prints.
+   *
+   * @param run The run to write.
+   */
+  private void renderDetached(FrameBuffer.Run run) {
+    long start = FRAME_TIMER.start();
+
+    synchronized (getOut()) {
+      getScreen().saveCursorPosition();
+      getFrameBuffer().render(run);
+      getFrameBuffer().forgetCursor();
+      getScreen().restoreCursorPosition();
+      getScreen().flush();
     }
 
-    setPreviousWrongGuesses(getGame().getWrongGuesses());
+    FRAME_TIMER.stop(start);
+  }
+
+  /**
+   * Draws the hanged man into the {@link #frameBuffer frame}. Parts whose
+   * amount of wrong guesses is not reached yet are left blank.
+   */
+  private void drawHangedMan() {
+    String[] rows = getDrawingGrid().render(getGame().getWrongGuesses());
+
+    for (int i = 0; i < rows.length; i++) {
+      getFrameBuffer().write(i, 0, rows[i]);
+    }
   }
 
-  /** Prints a horizontal separator line. */
+  /** Prints a horizontal separator line spanning the screen. */
   public void printSeparator() {
-    System.out.printf("%n# %s #%n%n", "-".repeat(96));
-  }
-
-  /** Prints information about the current round. */
-  public void printStats() {
-    printPrettyPairOverview(
-        new Pair<>(
-            "Previously guessed characters",
-            getGame().getGuessedCharsReadOnly().toString()
-        ),
-        new Pair<>(
-            "Previously guessed words",
-            getGame().getGuessedWordsReadOnly().toString()
-        ),
-        new Pair<>(
-            "Wrong guesses",
-            new StringBuilder()
-                .append(getGame().getWrongGuesses())
-                .append(" (")
-                .append(getGame().getMaxGuesses())
-                .append(")")
-                .toString()
-        ),
-        new Pair<>(
-            "Word to guess",
-            new StringBuilder()
-                .append(getGame().getGuessStatus().replaceAll("\\B", " "))
-                .append(" (")
-                .append(getGame().getWordToGuess().length())
-                .append(")")
-                .toString()
-        )
-    );
+    if (this.separator == null) {
+      updateLayout();
+    }
+    getOut().printf("%n%s%n%n", this.separator);
   }
 
   /**
-   * Prints {@link javafx.util.Pair key-value pairs} in a formatted overview.
-   * 
-   * @param pairs The key-value pairs to print.
+   * Draws information about the current round into the {@link #frameBuffer
+   * frame}.
+   *
+   * @param line The first line to draw to.
+   */
+  private void drawStats(int line) {
+    String[] values = this.statValues;
+
+    values[0] = getGame().getGuessedCharsReadOnly().toString();
+    values[1] = getGame().getGuessedWordsReadOnly().toString();
+    values[2] = new StringBuilder()
+        .append(getGame().getWrongGuesses())
+        .append(" (")
+        .append(getGame().getMaxGuesses())
+        .append(")")
+        .toString();
+    values[3] = new StringBuilder()
+        .append(Alphabet.spaced(getGame().getGuessStatus()))
+        .append(" (")
+        .append(getGame().getWordToGuess().length())
+        .append(")")
+        .toString();
+
+    drawPrettyOverview(line, STAT_LABELS, values);
+  }
+
+  /**
+   * Pads keys to the length of the longest key and appends the separator to
+   * their values.
+   *
+   * @param keys The keys.
+   * @return The labels, one per key.
    */
-  @SafeVarargs
-  private void printPrettyPairOverview(Pair<String, String>... pairs) {
+  private static String[] labels(String... keys) {
     int greatestKeyLength = 0;
 
-    for (Pair<String, String> pair : pairs) {
-      int curKeyLength = pair.getKey().length();
+    for (String key : keys) {
+      greatestKeyLength = Math.max(greatestKeyLength, key.length());
+    }
+
+    String[] labels = new String[keys.length];
 
-      if (curKeyLength > greatestKeyLength) {
-        greatestKeyLength = curKeyLength;
-      }
+    for (int i = 0; i < keys.length; i++) {
+      labels[i] = new StringBuilder(greatestKeyLength + 3)
+          .append(keys[i])
+          .append(" ".repeat(greatestKeyLength - keys[i].length()))
+          .append(" : ")
+          .toString();
     }
 
-    String format = new StringBuilder()
-        .append("%-")
-        .append(greatestKeyLength)
-        .append("s : %s%n")
-        .toString()
-    ;
+    return labels;
+  }
+
+  /**
+   * Draws labeled values in a formatted overview into the {@link
+   * #frameBuffer frame}, one row per value. Values wider than the {@link
+   * #valueWidth value width} wrap onto the following lines, preferably at a
+   * blank.
+   * 
+   * @param line The first line to draw to.
+   * @param labels The labels, see {@link #labels(String...)}.
+   * @param values The values, parallel to the labels.
+   */
+  private void drawPrettyOverview(int line, String[] labels, String[] values) {
+    for (int i = 0; i < labels.length; i++) {
+      String value = values[i];
+      int start = 0;
+
+      getFrameBuffer().write(line, 0, labels[i]);
+
+      do {
+        int end = wrapEnd(value, start, this.valueWidth);
+        getFrameBuffer().write(line++, labels[i].length(), value.substring(start, end));
 
-    for (Pair<String, String> pair : pairs) {
-      System.out.printf(format, pair.getKey(), pair.getValue());
+        start = end;
+        while (start < value.length() && value.charAt(start) == ' ') {
+          start++;
+        }
+      } while (start < value.length());
     }
   }
+
+  /**
+   * Returns where the line of a wrapped text starting at an index ends.
+   *
+   * @param text The text.
+   * @param start Index of the first character of the line.
+   * @param width Maximum width of the line.
+   * @return Index after the last character of the line.
+   */
+  private static int wrapEnd(String text, int start, int width) {
+    if (text.length() - start <= width) {
+      return text.length();
+    }
+
+    int blank = text.lastIndexOf(' ', start + width);
+    return blank > start ? blank : start + width;
+  }
 }
@@ -0,0 +1,405 @@
+package main.hangman;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the state of a single round of Hangman and applies the
+ * rules of the game to it. It performs no I/O whatsoever, so it can be driven
+ * by the interactive {@link Game} as well as programmatically.
+ *
+ * @author Neufeld-Martin
+ */
+public class Round {
+  /**
+   * The word to guess. Consists of letters of the {@link #alphabet alphabet}
+   * only.
+   */
+  private String wordToGuess;
+
+  /** Sets the {@link #wordToGuess word to guess}. */
+  private void setWordToGuess(String wordToGuess) {
+    this.wordToGuess = wordToGuess;
+  }
+
+  /** Returns the {@link #wordToGuess word to guess}. */
+  public String getWordToGuess() {
+    return this.wordToGuess;
+  }
+
+  /** The letters of the game. */
+  private Alphabet alphabet;
+
+  /** Sets the {@link #alphabet letters of the game}. */
+  private void setAlphabet(Alphabet alphabet) {
+    this.alphabet = alphabet;
+  }
+
+  /** Returns the {@link #alphabet letters of the game}. */
+  public Alphabet getAlphabet() {
+    return this.alphabet;
+  }
+
+  /**
+   * The letters contained in the word to guess as a bitmask, see {@link
+   * Alphabet#bitOf(char)}.
+   */
+  private long wordLetters;
+
+  /** The guessed letters as a bitmask, see {@link Alphabet#bitOf(char)}. */
+  private long guessedLetters;
+
+  /** Whether the word to guess was guessed as a whole. */
+  private boolean solved;
+
+  /**
+   * Cached guess status, derived on demand from the {@link #guessedLetters
+   * guessed letters}. {@code null} if outdated.
+   */
+  private String guessStatus;
+
+  /**
+   * Returns the guess status. Correctly guessed characters are revealed,
+   * whereas characters that are not yet guessed are replaced by an underscore.
+   */
+  public String getGuessStatus() {
+    if (this.guessStatus == null) {
+      char[] status = new char[getWordToGuess().length()];
+
+      for (int i = 0; i < status.length; i++) {
+        char chr = getWordToGuess().charAt(i);
+        status[i] = this.solved || (this.guessedLetters & getAlphabet().bitOf(chr)) != 0
+            ? chr
+            : Alphabet.HIDDEN;
+      }
+
+      this.guessStatus = new String(status);
+    }
+
+    return this.guessStatus;
+  }
+
+  /**
+   * Cached read-only view of all guessed characters in alphabetical order,
+   * derived on demand. {@code null} if outdated.
+   */
+  private List<Character> guessedChars;
+
+  /**
+   * Returns all guessed characters in the order of the {@link #alphabet
+   * alphabet} as read-only.
+   */
+  public List<Character> getGuessedCharsReadOnly() {
+    if (this.guessedChars == null) {
+      List<Character> guessedChars = new ArrayList<>(Long.bitCount(this.guessedLetters));
+
+      for (long letters = this.guessedLetters; letters != 0; letters &= letters - 1) {
+        guessedChars.add(getAlphabet().letterAt(Long.numberOfTrailingZeros(letters)));
+      }
+
+      this.guessedChars = Collections.unmodifiableList(guessedChars);
+    }
+
+    return this.guessedChars;
+  }
+
+  /** Returns the guessed letters as a bitmask, see {@link Alphabet#bitOf(char)}. */
+  public long getGuessedLetterMask() {
+    return this.guessedLetters;
+  }
+
+  /**
+   * Returns the guessed letters that are not contained in the word to guess
+   * as a bitmask, see {@link Alphabet#bitOf(char)}.
+   */
+  public long getWrongLetterMask() {
+    return this.guessedLetters & ~this.wordLetters;
+  }
+
+  /** Returns the amount of guessed characters. */
+  public int getGuessedCharCount() {
+    return Long.bitCount(this.guessedLetters);
+  }
+
+  /** All guessed words. */
+  private GuessRegistry guessedWords;
+
+  /** Sets all {@link #guessedWords guessed words}. */
+  private void setGuessedWords(GuessRegistry guessedWords) {
+    this.guessedWords = guessedWords;
+  }
+
+  /** Returns all {@link #guessedWords guessed words}. */
+  private GuessRegistry getGuessedWords() {
+    return this.guessedWords;
+  }
+
+  /** Returns all {@link #guessedWords guessed words} in alphabetical order as read-only. */
+  public List<String> getGuessedWordsReadOnly() {
+    return getGuessedWords().getSortedReadOnly();
+  }
+
+  /** Returns the amount of guessed words. */
+  public int getGuessedWordCount() {
+    return getGuessedWords().size();
+  }
+
+  /** Current amount of wrong guesses. */
+  private int wrongGuesses;
+
+  /** Sets the {@link #wrongGuesses current amount of wrong guesses}. */
+  private void setWrongGuesses(int wrongGuesses) {
+    this.wrongGuesses = wrongGuesses;
+  }
+
+  /** Returns the {@link #wrongGuesses current amount of wrong guesses}. */
+  public int getWrongGuesses() {
+    return this.wrongGuesses;
+  }
+
+  /** Maximum amount of wrong guesses. */
+  private int maxGuesses;
+
+  /** Sets the {@link #maxGuesses maximum amount of wrong guesses}. */
+  private void setMaxGuesses(int maxGuesses) {
+    this.maxGuesses = maxGuesses;
+  }
+
+  /** Returns the {@link #maxGuesses maximum amount of wrong guesses}. */
+  public int getMaxGuesses() {
+    return this.maxGuesses;
+  }
+
+  /**
+   * Amount of times this round was {@link #reset(String, int) reset}, so
+   * that observers keeping state about a round can tell a reused round from
+   * the one they saw before.
+   */
+  private int generation;
+
+  /** Returns the {@link #generation amount of times this round was reset}. */
+  public int getGeneration() {
+    return this.generation;
+  }
+
+  /**
+   * Constructs an instance of this class using the {@link
+   * Alphabet#getDefault() default alphabet}.
+   *
+   * @param wordToGuess the {@link #wordToGuess word to guess}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @throws IllegalArgumentException if the word is not {@link
+   *     #isValidWord(String) valid}.
+   */
+  public Round(String wordToGuess, int maxGuesses) {
+    this(wordToGuess, maxGuesses, Alphabet.getDefault());
+  }
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param wordToGuess the {@link #wordToGuess word to guess}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @param alphabet the {@link #alphabet letters of the game}.
+   * @throws IllegalArgumentException if the word does not consist of letters
+   *     of the alphabet only.
+   */
+  public Round(String wordToGuess, int maxGuesses, Alphabet alphabet) {
+    setAlphabet(alphabet);
+    setGuessedWords(new GuessRegistry());
+    reset(wordToGuess, maxGuesses);
+  }
+
+  /**
+   * Starts over with another word, as if this round was constructed anew
+   * with the same {@link #alphabet alphabet}. Allocates nothing but the
+   * derived caches, which are rebuilt on demand.
+   *
+   * @param wordToGuess the {@link #wordToGuess word to guess}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @throws IllegalArgumentException if the word does not consist of letters
+   *     of the alphabet only.
+   */
+  public void reset(String wordToGuess, int maxGuesses) {
+    if (!getAlphabet().isValidWord(wordToGuess)) {
+      throw new IllegalArgumentException("Invalid word to guess: " + wordToGuess);
+    }
+
+    setWordToGuess(wordToGuess);
+    this.wordLetters = getAlphabet().maskOf(wordToGuess);
+    this.guessedLetters = 0;
+    this.solved = false;
+    this.guessStatus = null;
+    this.guessedChars = null;
+    getGuessedWords().clear();
+    setWrongGuesses(0);
+    setMaxGuesses(maxGuesses);
+    this.generation++;
+  }
+
+  /**
+   * Returns {@code true} if the provided character was already guessed,
+   * {@code false} otherwise.
+   *
+   * @param chr Character to check.
+   */
+  public boolean isGuessedChar(char chr) {
+    return (this.guessedLetters & getAlphabet().bitOf(chr)) != 0;
+  }
+
+  /**
+   * Returns {@code true} if the provided word was already guessed,
+   * {@code false} otherwise.
+   *
+   * @param word Word to check.
+   */
+  public boolean isGuessedWord(String word) {
+    return getGuessedWords().contains(word);
+  }
+
+  /**
+   * Checks if a word contradicts what is known about the word to guess,
+   * i.e. the revealed letters and the letters known not to be contained in
+   * it. Such a word cannot be the word to guess, so that guessing it is
+   * pointless. The check reveals nothing beyond the guess status.
+   *
+   * @param word Word to check. Must be of the same length as the word to
+   *     guess.
+   * @return {@code true} if the word contradicts the guess status or
+   *     contains a wrongly guessed letter, {@code false} otherwise.
+   */
+  public boolean isContradicted(String word) {
+    if (this.solved) {
+      return !word.equals(getWordToGuess());
+    }
+
+    for (int i = 0; i < word.length(); i++) {
+      char guessed = word.charAt(i);
+      char actual = getWordToGuess().charAt(i);
+
+      if (
+          guessed != actual
+          && (this.guessedLetters & (getAlphabet().bitOf(guessed) | getAlphabet().bitOf(actual))) != 0
+      ) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Guesses a character. A wrong character guess causes an increase of the
+   * wrong guesses counter by one.
+   *
+   * @param guessedChar The guessed character. Must be a letter of the {@link
+   *     #alphabet alphabet} and must not be guessed already.
+   * @return {@code true} if the word contains the character, {@code false}
+   *     otherwise.
+   * @throws IllegalArgumentException if the character is invalid or was
+   *     already guessed.
+   */
+  public boolean guessChar(char guessedChar) {
+    long bit = getAlphabet().bitOf(guessedChar);
+
+    if (bit == 0 || (this.guessedLetters & bit) != 0) {
+      throw new IllegalArgumentException("Invalid character guess: " + guessedChar);
+    }
+
+    this.guessedChars = null;
+    this.guessedLetters |= bit;
+
+    if ((this.wordLetters & bit) == 0) {
+      setWrongGuesses(getWrongGuesses() + 1);
+      return false;
+    }
+
+    this.guessStatus = null;
+    return true;
+  }
+
+  /**
+   * Guesses a word. A wrong word guess causes an increase of the wrong
+   * guesses counter by two.
+   *
+   * @param guessedWord The guessed word. Must consist of letters of the
+   *     {@link #alphabet alphabet} only, be of the same length as the word to
+   *     guess and must not be guessed already.
+   * @return {@code true} if the word is the word to guess, {@code false}
+   *     otherwise.
+   * @throws IllegalArgumentException if the word is invalid, of a different
+   *     length or was already guessed.
+   */
+  public boolean guessWord(String guessedWord) {
+    if (
+        !getAlphabet().isValidWord(guessedWord)
+        || guessedWord.length() != getWordToGuess().length()
+        || isGuessedWord(guessedWord)
+    ) {
+      throw new IllegalArgumentException("Invalid word guess: " + guessedWord);
+    }
+
+    getGuessedWords().add(guessedWord);
+
+    if (!guessedWord.equals(getWordToGuess())) {
+      setWrongGuesses(getWrongGuesses() + 2);
+      return false;
+    }
+
+    this.solved = true;
+    this.guessStatus = null;
+    return true;
+  }
+
+  /** Returns {@code true} if the word is guessed, {@code false} otherwise. */
+  public boolean isWon() {
+    return this.solved || (this.wordLetters & ~this.guessedLetters) == 0;
+  }
+
+  /**
+   * Returns {@code true} if the {@link #maxGuesses maximum amount of wrong
+   * guesses} is exceeded, {@code false} otherwise.
+   */
+  public boolean isLost() {
+    return getWrongGuesses() > getMaxGuesses();
+  }
+
+  /** Returns {@code true} if the round is either won or lost. */
+  public boolean isOver() {
+    return isWon() || isLost();
+  }
+
+  /**
+   * Checks if the provided character is valid in the context of this game.
+   *
+   * <p>A guessed character is valid if it is a letter of the {@link
+   * Alphabet#getDefault() default alphabet}.
+   *
+   * @param chr Character to check.
+   * @return {@code true} if the provided character is valid, {@code false}
+   *     otherwise.
+   */
+  public static boolean isValidChar(Character chr) {
+    if (chr == null) {
+      return false;
+    }
+
+    return Alphabet.getDefault().contains(chr);
+  }
+
+  /**
+   * Checks if the provided word is valid in the context of this game.
+   *
+   * <p>A provided word is valid if it contains only letters of the {@link
+   * Alphabet#getDefault() default alphabet} and has a length greater than or
+   * equal to 1.
+   *
+   * @param word Word to check.
+   * @return {@code true} if the provided word is valid, {@code false}
+   *     otherwise.
+   */
+  public static boolean isValidWord(String word) {
+    return Alphabet.getDefault().isValidWord(word);
+  }
+}
@@ -0,0 +1,35 @@
+package main.io;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import main.terminal.Screen;
+
+/**
+ * Port of the console. Unlike {@link System#out}, output is buffered and
+ * written once per turn.
+ *
+ * <p>The screen is selected by the system property {@code hangman.screen} as
+ * described in {@link Screen}.
+ *
+ * @author Neufeld-Martin
+ */
+public class ConsolePort extends StreamPort {
+  /** Size of the output buffer in bytes. */
+  public static final int BUFFER_SIZE = 8192;
+
+  /** Constructs an instance of this class. */
+  public ConsolePort() {
+    super(
+        System.in,
+        new FileOutputStream(FileDescriptor.out),
+        BUFFER_SIZE,
+        out -> Screen.createBackend(System.getProperty("hangman.screen", "ansi"), out)
+    );
+  }
+
+  /** Flushes pending output. The console itself stays open. */
+  @Override
+  public void close() {
+    flush();
+  }
+}
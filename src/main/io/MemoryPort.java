@@ -0,0 +1,123 @@
+package main.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import main.terminal.AnsiScreenBackend;
+import main.terminal.ScreenBackend;
+
+/**
+ * Port reading scripted input from memory and collecting output in memory,
+ * for playing games programmatically, e.g. in simulations.
+ *
+ * @author Neufeld-Martin
+ */
+public class MemoryPort implements Port {
+  /** Amount of lines of the screen. */
+  private static final int SCREEN_LINES = 24;
+
+  /** Amount of columns of the screen. */
+  private static final int SCREEN_COLUMNS = 80;
+
+  /** Input not read yet. */
+  private final StringBuilder input = new StringBuilder();
+
+  /** Collected output. */
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+  /** Stream writing to the {@link #output collected output}. */
+  private final PrintStream out = new PrintStream(this.output, false, StandardCharsets.UTF_8);
+
+  /** The screen drawing on the output. */
+  private final ScreenBackend screen = new AnsiScreenBackend(this.out, SCREEN_LINES, SCREEN_COLUMNS);
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param input Input to read, see {@link #supply(String)}.
+   */
+  public MemoryPort(String input) {
+    supply(input);
+  }
+
+  /**
+   * Appends input to read. {@link #next() Tokens} are separated by
+   * whitespace, and each call supplies whole tokens; {@link #nextKey() keys}
+   * are read character by character, including the whitespace.
+   *
+   * @param input The input.
+   */
+  public synchronized void supply(String input) {
+    int length = this.input.length();
+
+    if (length > 0 && !Character.isWhitespace(this.input.charAt(length - 1))) {
+      this.input.append('\n');
+    }
+    this.input.append(input);
+  }
+
+  @Override
+  public synchronized String next() {
+    int start = 0;
+    while (start < this.input.length() && Character.isWhitespace(this.input.charAt(start))) {
+      start++;
+    }
+
+    int end = start;
+    while (end < this.input.length() && !Character.isWhitespace(this.input.charAt(end))) {
+      end++;
+    }
+
+    if (start == end) {
+      this.input.setLength(0);
+      throw new NoSuchElementException("No input left");
+    }
+
+    String token = this.input.substring(start, end);
+    this.input.delete(0, end);
+    return token;
+  }
+
+  @Override
+  public synchronized char nextKey() {
+    if (this.input.length() == 0) {
+      throw new NoSuchElementException("No input left");
+    }
+
+    char key = this.input.charAt(0);
+    this.input.deleteCharAt(0);
+    return key;
+  }
+
+  @Override
+  public PrintStream out() {
+    return this.out;
+  }
+
+  @Override
+  public ScreenBackend screen() {
+    return this.screen;
+  }
+
+  @Override
+  public void flush() {
+    this.out.flush();
+  }
+
+  /** Returns the output collected so far. */
+  public String getOutput() {
+    synchronized (this.out) {
+      this.out.flush();
+      return this.output.toString(StandardCharsets.UTF_8);
+    }
+  }
+
+  /** Discards the output collected so far. */
+  public void resetOutput() {
+    synchronized (this.out) {
+      this.out.flush();
+      this.output.reset();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package main.io;
+
+import java.io.PrintStream;
+import main.terminal.ScreenBackend;
+
+/**
+ * The input and output a game is played through, e.g. a console, a network
+ * connection or memory.
+ *
+ * <p>Output written to a port may be buffered. It is flushed at the latest
+ * when {@link #next()} has to wait for input, so that everything printed
+ * during a turn reaches the player at once.
+ *
+ * @author Neufeld-Martin
+ */
+public interface Port {
+  /**
+   * Returns the next token of input, i.e. the next sequence of
+   * non-whitespace characters. Pending output is flushed before waiting for
+   * input.
+   *
+   * @return The token.
+   * @throws java.util.NoSuchElementException if the input is exhausted.
+   */
+  String next();
+
+  /**
+   * Returns the next key pressed, i.e. the next character of input, without
+   * waiting for a whole token. Only useful if the input is passed on key by
+   * key, e.g. by a terminal in {@link main.terminal.RawMode raw mode}.
+   * Pending output is flushed before waiting for input.
+   *
+   * @return The character.
+   * @throws java.util.NoSuchElementException if the input is exhausted.
+   */
+  char nextKey();
+
+  /** Returns the stream for output. */
+  PrintStream out();
+
+  /** Returns the screen drawing on the {@link #out() output}. */
+  ScreenBackend screen();
+
+  /** Flushes pending output. */
+  void flush();
+
+  /** Flushes pending output and releases the resources of this port. */
+  default void close() {
+    flush();
+  }
+}
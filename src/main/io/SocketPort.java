@@ -0,0 +1,51 @@
+package main.io;
+
+import java.io.IOException;
+import java.net.Socket;
+import main.terminal.AnsiScreenBackend;
+
+/**
+ * Port of a network connection. The client is assumed to be a terminal
+ * understanding ANSI escape sequences.
+ *
+ * @author Neufeld-Martin
+ */
+public class SocketPort extends StreamPort {
+  /** Size of the output buffer in bytes. */
+  public static final int BUFFER_SIZE = 4096;
+
+  /** The connection. */
+  private final Socket socket;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param socket the {@link #socket connection}.
+   * @param lines Amount of lines of the client's screen.
+   * @param columns Amount of columns of the client's screen.
+   * @throws IOException if the streams of the connection cannot be opened.
+   */
+  public SocketPort(Socket socket, int lines, int columns) throws IOException {
+    super(
+        socket.getInputStream(),
+        socket.getOutputStream(),
+        BUFFER_SIZE,
+        out -> new AnsiScreenBackend(out, lines, columns)
+    );
+    this.socket = socket;
+  }
+
+  /** Flushes pending output and closes the connection. */
+  @Override
+  public void close() {
+    try {
+      super.close();
+    } finally {
+      try {
+        this.socket.close();
+      } catch (IOException e) {
+        // Already closed.
+      }
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package main.io;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import main.terminal.ScreenBackend;
+
+/**
+ * Port reading from an input stream and writing to a buffered output stream.
+ * Output is flushed only when reading would block, so a turn costs a single
+ * write no matter how many prompts and screen updates it prints.
+ *
+ * @author Neufeld-Martin
+ */
+public class StreamPort implements Port {
+  /** Pattern matching a single character, including line terminators. */
+  private static final Pattern ANY_CHARACTER = Pattern.compile(".", Pattern.DOTALL);
+
+  /** Scanner splitting the input into tokens. */
+  private final Scanner scanner;
+
+  /** Buffered stream for output. */
+  private final PrintStream out;
+
+  /** The screen drawing on the output. */
+  private final ScreenBackend screen;
+
+  /** Point in time of the last input, see {@link System#nanoTime()}. */
+  private volatile long lastInput = System.nanoTime();
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param in The stream to read input from.
+   * @param out The stream to write output to.
+   * @param bufferSize Size of the output buffer in bytes.
+   * @param screenFactory Creates the screen drawing on the buffered output.
+   */
+  public StreamPort(
+      InputStream in,
+      OutputStream out,
+      int bufferSize,
+      Function<PrintStream, ScreenBackend> screenFactory
+  ) {
+    this.out = new PrintStream(
+        new BufferedOutputStream(out, bufferSize), false, StandardCharsets.UTF_8
+    );
+    this.screen = screenFactory.apply(this.out);
+    this.scanner = new Scanner(new FlushingInputStream(in), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public String next() {
+    return this.scanner.next();
+  }
+
+  @Override
+  public char nextKey() {
+    String key = this.scanner.findWithinHorizon(ANY_CHARACTER, 1);
+
+    if (key == null) {
+      throw new NoSuchElementException("No input left");
+    }
+
+    return key.charAt(0);
+  }
+
+  @Override
+  public PrintStream out() {
+    return this.out;
+  }
+
+  @Override
+  public ScreenBackend screen() {
+    return this.screen;
+  }
+
+  @Override
+  public void flush() {
+    this.out.flush();
+  }
+
+  /** Returns the {@link #lastInput point in time of the last input}. */
+  public long getLastInput() {
+    return this.lastInput;
+  }
+
+  /** Flushes pending output and closes both streams. */
+  @Override
+  public void close() {
+    this.out.close();
+    this.scanner.close();
+  }
+
+  /**
+   * Input stream flushing pending output before waiting for input and
+   * recording the point in time of the last read.
+   */
+  private class FlushingInputStream extends FilterInputStream {
+    /**
+     * Constructs an instance of this class.
+     *
+     * @param in The stream to read from.
+     */
+    FlushingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      flushIfBlocking();
+      int result = super.read();
+      lastInput = System.nanoTime();
+      return result;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      flushIfBlocking();
+      int result = super.read(buffer, offset, length);
+      lastInput = System.nanoTime();
+      return result;
+    }
+
+    /** Flushes pending output if reading would block. */
+    private void flushIfBlocking() throws IOException {
+      if (available() == 0) {
+        out.flush();
+      }
+    }
+  }
+}
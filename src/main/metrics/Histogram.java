@@ -0,0 +1,221 @@
+package main.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative values, e.g. durations in nanoseconds, with
+ * log-linear buckets in the style of HdrHistogram: every power of two is
+ * split into {@code 16} linear sub-buckets, so quantiles are accurate to
+ * about 6% over the whole range of {@code long}.
+ *
+ * <p>Recording is allocation-free and lock-free and may happen concurrently
+ * with reading from any number of threads. Readers see each recorded value
+ * eventually, but not necessarily all values of a concurrent burst at once.
+ *
+ * @author Neufeld-Martin
+ */
+public class Histogram {
+  /** Bits of a value that select its sub-bucket. */
+  private static final int SUB_BUCKET_BITS = 5;
+
+  /** Amount of sub-buckets per power of two. */
+  private static final int SUB_BUCKET_HALF = 1 << (SUB_BUCKET_BITS - 1);
+
+  /** Amount of buckets needed to cover all non-negative {@code long} values. */
+  private static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+  /** Amount of recorded values per bucket. */
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+  /** Sum of all recorded values. */
+  private final LongAdder sum = new LongAdder();
+
+  /** Greatest recorded value. */
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Returns the bucket of a value. Values below {@code 2 * SUB_BUCKET_HALF}
+   * have a bucket each; above, each power of two is split into {@link
+   * #SUB_BUCKET_HALF} buckets.
+   *
+   * @param value The value. Must not be negative.
+   * @return Index of the bucket.
+   */
+  private static int bucketOf(long value) {
+    int highestBit = 63 - Long.numberOfLeadingZeros(value | 1);
+
+    if (highestBit < SUB_BUCKET_BITS) {
+      return (int) value;
+    }
+
+    int shift = highestBit - (SUB_BUCKET_BITS - 1);
+    return (shift << (SUB_BUCKET_BITS - 1)) + (int) (value >>> shift);
+  }
+
+  /**
+   * Returns the lowest value of a bucket.
+   *
+   * @param bucket Index of the bucket.
+   */
+  private static long lowestValueOf(int bucket) {
+    if (bucket < 2 * SUB_BUCKET_HALF) {
+      return bucket;
+    }
+
+    int shift = (bucket >>> (SUB_BUCKET_BITS - 1)) - 1;
+    return (long) (bucket - (shift << (SUB_BUCKET_BITS - 1))) << shift;
+  }
+
+  /**
+   * Records a value.
+   *
+   * @param value The value. Negative values are recorded as {@code 0}.
+   */
+  public void record(long value) {
+    long clamped = Math.max(0, value);
+
+    this.counts.incrementAndGet(bucketOf(clamped));
+    this.sum.add(clamped);
+    this.max.accumulate(clamped);
+  }
+
+  /** Returns the amount of recorded values. */
+  public long getCount() {
+    long count = 0;
+
+    for (int i = 0; i < BUCKETS; i++) {
+      count += this.counts.get(i);
+    }
+
+    return count;
+  }
+
+  /** Returns the mean of all recorded values, or {@code 0} if there are none. */
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0 : (double) this.sum.sum() / count;
+  }
+
+  /** Returns the greatest recorded value, or {@code 0} if there are none. */
+  public long getMax() {
+    return this.max.get();
+  }
+
+  /**
+   * Returns the value below which a share of the recorded values lies. The
+   * result is the lowest value of the bucket holding that value, so it
+   * underestimates the exact quantile by at most the bucket width.
+   *
+   * @param quantile The share, between {@code 0} and {@code 1}.
+   * @return The value, or {@code 0} if there are no recorded values.
+   */
+  public long getValueAtQuantile(double quantile) {
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = this.counts.get(i);
+      total += counts[i];
+    }
+
+    long rank = (long) Math.ceil(Math.min(1, Math.max(0, quantile)) * total);
+    long seen = 0;
+
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+
+      if (seen >= Math.max(1, rank) && counts[i] > 0) {
+        return Math.min(lowestValueOf(i), getMax());
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Adds all values recorded by another histogram, e.g. to combine the
+   * histograms of several threads or processes.
+   *
+   * @param other The other histogram.
+   */
+  public void add(Histogram other) {
+    for (int i = 0; i < BUCKETS; i++) {
+      long count = other.counts.get(i);
+
+      if (count != 0) {
+        this.counts.addAndGet(i, count);
+      }
+    }
+
+    this.sum.add(other.sum.sum());
+    this.max.accumulate(other.getMax());
+  }
+
+  /**
+   * Encodes the recorded values as compact text without whitespace: the
+   * sum, the greatest value and the non-empty buckets as {@code
+   * bucket:count} pairs, separated by commas, e.g. {@code 57,21,3:5,21:2}.
+   *
+   * @return The text, see {@link #decode(String)}.
+   */
+  public String encode() {
+    StringBuilder text = new StringBuilder()
+        .append(this.sum.sum())
+        .append(',')
+        .append(getMax());
+
+    for (int i = 0; i < BUCKETS; i++) {
+      long count = this.counts.get(i);
+
+      if (count != 0) {
+        text.append(',').append(i).append(':').append(count);
+      }
+    }
+
+    return text.toString();
+  }
+
+  /**
+   * Decodes a histogram encoded by {@link #encode()}.
+   *
+   * @param text The text.
+   * @return The histogram.
+   * @throws IllegalArgumentException if the text is malformed.
+   */
+  public static Histogram decode(String text) {
+    String[] parts = text.split(",");
+    Histogram histogram = new Histogram();
+
+    if (parts.length < 2) {
+      throw new IllegalArgumentException("Malformed histogram: " + text);
+    }
+
+    histogram.sum.add(Long.parseLong(parts[0]));
+    histogram.max.accumulate(Long.parseLong(parts[1]));
+
+    for (int i = 2; i < parts.length; i++) {
+      int separator = parts[i].indexOf(':');
+      int bucket = separator < 0 ? -1 : Integer.parseInt(parts[i].substring(0, separator));
+
+      if (bucket < 0 || bucket >= BUCKETS) {
+        throw new IllegalArgumentException("Malformed histogram: " + text);
+      }
+
+      histogram.counts.addAndGet(bucket, Long.parseLong(parts[i].substring(separator + 1)));
+    }
+
+    return histogram;
+  }
+
+  /** Discards all recorded values. */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      this.counts.set(i, 0);
+    }
+
+    this.sum.reset();
+    this.max.reset();
+  }
+}
@@ -0,0 +1,166 @@
+package main.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the counters and timers of this process.
+ *
+ * <p>Metrics are created on first access by name and recorded at all times;
+ * recording neither allocates nor locks. They can be read through JMX, see
+ * {@link #registerMBean()}, and dumped as text periodically, see {@link
+ * #startDump(PrintStream, long)}. Both are enabled by the system properties
+ * {@code hangman.metrics.jmx} ({@code true}) and {@code
+ * hangman.metrics.dump} (interval in seconds) through {@link #init()}.
+ *
+ * @author Neufeld-Martin
+ */
+public class Metrics {
+  /** JMX name of the metrics. */
+  public static final String OBJECT_NAME = "main.hangman:type=Metrics";
+
+  /** Counters by name. */
+  private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+  /** Timers by name. */
+  private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
+  /** The scheduler of the periodic dump, or {@code null} if not started. */
+  private static ScheduledExecutorService dumper;
+
+  /** Whether the metrics are registered with JMX. */
+  private static boolean registered;
+
+  /**
+   * Returns a counter, creating it on first access.
+   *
+   * @param name Name of the counter.
+   * @return The counter.
+   */
+  public static LongAdder counter(String name) {
+    return COUNTERS.computeIfAbsent(name, key -> new LongAdder());
+  }
+
+  /**
+   * Returns a timer, creating it on first access.
+   *
+   * @param name Name of the timer.
+   * @return The timer.
+   */
+  public static Timer timer(String name) {
+    return TIMERS.computeIfAbsent(name, key -> new Timer());
+  }
+
+  /**
+   * Registers with JMX and starts the periodic dump to {@code stderr} as
+   * configured by the system properties {@code hangman.metrics.jmx} and
+   * {@code hangman.metrics.dump}.
+   */
+  public static void init() {
+    if (Boolean.getBoolean("hangman.metrics.jmx")) {
+      registerMBean();
+    }
+
+    long interval = Long.getLong("hangman.metrics.dump", 0);
+    if (interval > 0) {
+      startDump(System.err, interval);
+    }
+  }
+
+  /**
+   * Registers the metrics with the platform MBean server under {@link
+   * #OBJECT_NAME}. Subsequent calls have no effect.
+   */
+  public static synchronized void registerMBean() {
+    if (registered) {
+      return;
+    }
+
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(new MetricsBean(), new ObjectName(OBJECT_NAME));
+      registered = true;
+    } catch (JMException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Starts writing all metrics to a stream periodically. Subsequent calls
+   * have no effect.
+   *
+   * @param out The stream.
+   * @param interval Interval in seconds.
+   */
+  public static synchronized void startDump(PrintStream out, long interval) {
+    if (dumper != null) {
+      return;
+    }
+
+    dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "hangman-metrics");
+      thread.setDaemon(true);
+      return thread;
+    });
+    dumper.scheduleAtFixedRate(() -> {
+      out.print(dump());
+      out.flush();
+    }, interval, interval, TimeUnit.SECONDS);
+  }
+
+  /** Returns all metrics as text, one metric per line, ordered by name. */
+  public static String dump() {
+    StringBuilder dump = new StringBuilder();
+
+    new TreeMap<>(COUNTERS).forEach(
+        (name, counter) -> dump.append(String.format("%-24s %d%n", name, counter.sum()))
+    );
+    new TreeMap<>(TIMERS).forEach(
+        (name, timer) -> dump.append(String.format("%-24s %s%n", name, new TimerSummary(timer)))
+    );
+
+    return dump.toString();
+  }
+
+  /** Resets all counters and timers. */
+  public static void reset() {
+    COUNTERS.values().forEach(LongAdder::reset);
+    TIMERS.values().forEach(timer -> timer.getHistogram().reset());
+  }
+
+  /** The JMX view of the metrics. */
+  private static class MetricsBean implements MetricsMXBean {
+    @Override
+    public Map<String, Long> getCounters() {
+      Map<String, Long> counters = new TreeMap<>();
+      COUNTERS.forEach((name, counter) -> counters.put(name, counter.sum()));
+      return counters;
+    }
+
+    @Override
+    public Map<String, TimerSummary> getTimers() {
+      Map<String, TimerSummary> timers = new TreeMap<>();
+      TIMERS.forEach((name, timer) -> timers.put(name, new TimerSummary(timer)));
+      return timers;
+    }
+
+    @Override
+    public String dump() {
+      return Metrics.dump();
+    }
+
+    @Override
+    public void reset() {
+      Metrics.reset();
+    }
+  }
+}
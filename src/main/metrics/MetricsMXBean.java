@@ -0,0 +1,23 @@
+package main.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing {@link Metrics} through JMX under the name
+ * {@value Metrics#OBJECT_NAME}.
+ *
+ * @author Neufeld-Martin
+ */
+public interface MetricsMXBean {
+  /** Returns the values of all counters by name. */
+  Map<String, Long> getCounters();
+
+  /** Returns summaries of all timers by name. */
+  Map<String, TimerSummary> getTimers();
+
+  /** Returns all metrics as text, one metric per line. */
+  String dump();
+
+  /** Resets all counters and timers. */
+  void reset();
+}
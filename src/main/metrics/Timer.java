@@ -0,0 +1,52 @@
+package main.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures durations into a {@link Histogram} of nanoseconds.
+ *
+ * <p>Usage:<pre>{@code
+ * long start = timer.start();
+ * ...
+ * timer.stop(start);
+ * }</pre>
+ *
+ * @author Neufeld-Martin
+ */
+public class Timer {
+  /** The recorded durations in nanoseconds. */
+  private final Histogram histogram = new Histogram();
+
+  /** Returns the {@link #histogram recorded durations in nanoseconds}. */
+  public Histogram getHistogram() {
+    return this.histogram;
+  }
+
+  /**
+   * Starts a measurement.
+   *
+   * @return The start time to pass to {@link #stop(long)}.
+   */
+  public long start() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Ends a measurement and records its duration.
+   *
+   * @param start The start time returned by {@link #start()}.
+   */
+  public void stop(long start) {
+    this.histogram.record(System.nanoTime() - start);
+  }
+
+  /**
+   * Records a duration measured elsewhere.
+   *
+   * @param duration The duration.
+   * @param unit The unit of the duration.
+   */
+  public void record(long duration, TimeUnit unit) {
+    this.histogram.record(unit.toNanos(duration));
+  }
+}
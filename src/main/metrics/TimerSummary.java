@@ -0,0 +1,71 @@
+package main.metrics;
+
+/**
+ * Summary of a {@link Timer} at the time it was taken, in microseconds.
+ *
+ * @author Neufeld-Martin
+ */
+public class TimerSummary {
+  /** Amount of measurements. */
+  private final long count;
+
+  /** Mean duration. */
+  private final double mean;
+
+  /** Median duration. */
+  private final double p50;
+
+  /** 99th percentile of the durations. */
+  private final double p99;
+
+  /** Longest duration. */
+  private final double max;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param timer The timer to summarize.
+   */
+  public TimerSummary(Timer timer) {
+    Histogram histogram = timer.getHistogram();
+
+    this.count = histogram.getCount();
+    this.mean = histogram.getMean() / 1000;
+    this.p50 = histogram.getValueAtQuantile(0.5) / 1000.0;
+    this.p99 = histogram.getValueAtQuantile(0.99) / 1000.0;
+    this.max = histogram.getMax() / 1000.0;
+  }
+
+  /** Returns the {@link #count amount of measurements}. */
+  public long getCount() {
+    return this.count;
+  }
+
+  /** Returns the {@link #mean mean duration}. */
+  public double getMeanMicros() {
+    return this.mean;
+  }
+
+  /** Returns the {@link #p50 median duration}. */
+  public double getP50Micros() {
+    return this.p50;
+  }
+
+  /** Returns the {@link #p99 99th percentile of the durations}. */
+  public double getP99Micros() {
+    return this.p99;
+  }
+
+  /** Returns the {@link #max longest duration}. */
+  public double getMaxMicros() {
+    return this.max;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "count=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+        this.count, this.mean, this.p50, this.p99, this.max
+    );
+  }
+}
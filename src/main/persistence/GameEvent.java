@@ -0,0 +1,69 @@
+package main.persistence;
+
+import main.hangman.Round;
+
+/**
+ * A single guess as recorded in the journal of a game.
+ *
+ * @author Neufeld-Martin
+ */
+public class GameEvent {
+  /** The kinds of guesses. */
+  public enum Type {
+    /** A character guess. */
+    CHAR,
+
+    /** A word guess. */
+    WORD
+  }
+
+  /** Sequence number of the guess within its game, starting at 1. */
+  private long seq;
+
+  /** Kind of the guess. */
+  private Type type;
+
+  /** The guessed character or word. */
+  private String guess;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param seq the {@link #seq sequence number of the guess}.
+   * @param type the {@link #type kind of the guess}.
+   * @param guess the {@link #guess guessed character or word}.
+   */
+  public GameEvent(long seq, Type type, String guess) {
+    this.seq = seq;
+    this.type = type;
+    this.guess = guess;
+  }
+
+  /** Returns the {@link #seq sequence number of the guess}. */
+  public long getSeq() {
+    return this.seq;
+  }
+
+  /** Returns the {@link #type kind of the guess}. */
+  public Type getType() {
+    return this.type;
+  }
+
+  /** Returns the {@link #guess guessed character or word}. */
+  public String getGuess() {
+    return this.guess;
+  }
+
+  /**
+   * Applies the guess to a round.
+   *
+   * @param round The round.
+   * @return {@code true} if the guess was correct, {@code false} otherwise.
+   * @throws IllegalArgumentException if the guess is invalid for the round.
+   */
+  public boolean applyTo(Round round) {
+    return this.type == Type.CHAR
+        ? round.guessChar(this.guess.charAt(0))
+        : round.guessWord(this.guess);
+  }
+}
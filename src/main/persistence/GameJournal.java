@@ -0,0 +1,462 @@
+package main.persistence;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import main.hangman.Game;
+import main.hangman.GameListener;
+import main.hangman.Round;
+
+/**
+ * Persists a game as an append-only journal of its guesses plus a periodic
+ * snapshot of its state, so that it can be {@link #resume(Path, String)
+ * resumed} after a crash.
+ *
+ * <p>The journal {@code <id>.journal} holds one JSON {@link GameEvent} per
+ * line; the snapshot {@code <id>.snapshot} holds the latest {@link
+ * GameSnapshot}, replaced atomically. Events are buffered and written to the
+ * disk, including an {@code fsync}, every {@link #syncEvery} events and at
+ * least every {@link #syncInterval} milliseconds, so that journaling a guess
+ * costs no disk access in the common case. Events not yet synced are lost
+ * on a crash; a line torn by a crash is cut off when the journal is opened
+ * again.
+ *
+ * @author Neufeld-Martin
+ */
+public class GameJournal implements GameListener, Closeable {
+  /** Events after which the journal is synced, if not configured otherwise. */
+  public static final int DEFAULT_SYNC_EVERY = 16;
+
+  /** Interval in milliseconds the journal is synced at, if not configured otherwise. */
+  public static final long DEFAULT_SYNC_INTERVAL = 1000;
+
+  /** Events after which a snapshot is written, if not configured otherwise. */
+  public static final int DEFAULT_SNAPSHOT_EVERY = 64;
+
+  /** Serializer of events and snapshots. */
+  private static final Gson GSON = new Gson();
+
+  /** The scheduler syncing all journals periodically. */
+  private static ScheduledExecutorService scheduler;
+
+  /** Returns the {@link #scheduler scheduler}, creating it on first access. */
+  private static synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hangman-journal");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    return scheduler;
+  }
+
+  /** Directory holding the journal and the snapshot. */
+  private final Path directory;
+
+  /** Identifier of the game. */
+  private final String gameId;
+
+  /** Events after which the journal is synced. */
+  private final int syncEvery;
+
+  /** Interval in milliseconds the journal is synced at. */
+  private final long syncInterval;
+
+  /** Events after which a snapshot is written. */
+  private final int snapshotEvery;
+
+  /** Channel of the journal file, used for syncing. */
+  private final FileChannel channel;
+
+  /** Buffered writer of the journal file. */
+  private final Writer writer;
+
+  /** The periodic sync, or {@code null} if not scheduled. */
+  private ScheduledFuture<?> periodicSync;
+
+  /** Sequence number of the last journaled guess. */
+  private long seq;
+
+  /** Events written since the last sync. */
+  private int unsynced;
+
+  /**
+   * Constructs an instance of this class and opens the journal for appending.
+   *
+   * @param directory the {@link #directory directory holding the journal}.
+   * @param gameId the {@link #gameId identifier of the game}.
+   * @param syncEvery the {@link #syncEvery events after which the journal is
+   *     synced}.
+   * @param syncInterval the {@link #syncInterval interval the journal is
+   *     synced at}; {@code 0} disables periodic syncing.
+   * @param snapshotEvery the {@link #snapshotEvery events after which a
+   *     snapshot is written}.
+   * @throws IOException if the journal cannot be opened.
+   */
+  public GameJournal(
+      Path directory,
+      String gameId,
+      int syncEvery,
+      long syncInterval,
+      int snapshotEvery
+  ) throws IOException {
+    this.directory = directory;
+    this.gameId = gameId;
+    this.syncEvery = Math.max(1, syncEvery);
+    this.syncInterval = syncInterval;
+    this.snapshotEvery = Math.max(1, snapshotEvery);
+
+    Files.createDirectories(directory);
+    truncateTornLine(journalPath(directory, gameId));
+    this.channel = FileChannel.open(
+        journalPath(directory, gameId),
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND
+    );
+    this.writer = new BufferedWriter(
+        Channels.newWriter(this.channel, StandardCharsets.UTF_8), 8192
+    );
+
+    if (syncInterval > 0) {
+      this.periodicSync = getScheduler().scheduleWithFixedDelay(
+          this::syncQuietly, syncInterval, syncInterval, TimeUnit.MILLISECONDS
+      );
+    }
+  }
+
+  /**
+   * Opens a journal configured by the system properties
+   * {@code hangman.journal.syncEvery}, {@code hangman.journal.syncInterval}
+   * (milliseconds) and {@code hangman.journal.snapshotEvery}, defaulting to
+   * {@link #DEFAULT_SYNC_EVERY}, {@link #DEFAULT_SYNC_INTERVAL} and {@link
+   * #DEFAULT_SNAPSHOT_EVERY}.
+   *
+   * @param directory The directory holding the journal.
+   * @param gameId Identifier of the game.
+   * @return The journal.
+   * @throws IOException if the journal cannot be opened.
+   */
+  public static GameJournal open(Path directory, String gameId) throws IOException {
+    return new GameJournal(
+        directory,
+        gameId,
+        Integer.getInteger("hangman.journal.syncEvery", DEFAULT_SYNC_EVERY),
+        Long.getLong("hangman.journal.syncInterval", DEFAULT_SYNC_INTERVAL),
+        Integer.getInteger("hangman.journal.snapshotEvery", DEFAULT_SNAPSHOT_EVERY)
+    );
+  }
+
+  /**
+   * Restores the round of a journaled game from its latest snapshot and the
+   * events journaled after it. A torn last line, as left by a crash during
+   * a write, is ignored.
+   *
+   * @param directory The directory holding the journal.
+   * @param gameId Identifier of the game.
+   * @return The restored round.
+   * @throws IOException if the snapshot or journal cannot be read.
+   * @throws IllegalStateException if the journal is inconsistent.
+   */
+  public static Round resume(Path directory, String gameId) throws IOException {
+    GameSnapshot snapshot = readSnapshot(directory, gameId);
+    Round round = snapshot.toRound();
+
+    for (GameEvent event : readEvents(directory, gameId)) {
+      if (event.getSeq() > snapshot.getSeq()) {
+        event.applyTo(round);
+      }
+    }
+
+    return round;
+  }
+
+  /**
+   * Reads the latest snapshot of a journaled game.
+   *
+   * @param directory The directory holding the snapshot.
+   * @param gameId Identifier of the game.
+   * @return The snapshot.
+   * @throws IOException if the snapshot cannot be read.
+   */
+  public static GameSnapshot readSnapshot(Path directory, String gameId) throws IOException {
+    try (
+      BufferedReader reader = Files.newBufferedReader(snapshotPath(directory, gameId));
+    ) {
+      return GSON.fromJson(reader, GameSnapshot.class);
+    }
+  }
+
+  /**
+   * Reads all journaled events of a game. A torn last line, as left by a
+   * crash during a write, is ignored, even if it was torn within a
+   * multi-byte character.
+   *
+   * @param directory The directory holding the journal.
+   * @param gameId Identifier of the game.
+   * @return The events in the order they were journaled; empty if there is
+   *     no journal.
+   * @throws IOException if the journal cannot be read.
+   * @throws IllegalStateException if the journal is corrupt.
+   */
+  public static List<GameEvent> readEvents(Path directory, String gameId) throws IOException {
+    Path journal = journalPath(directory, gameId);
+    List<GameEvent> events = new ArrayList<>();
+
+    if (!Files.exists(journal)) {
+      return events;
+    }
+
+    try (
+      BufferedReader reader = new BufferedReader(new InputStreamReader(
+          Files.newInputStream(journal),
+          StandardCharsets.UTF_8.newDecoder()
+              .onMalformedInput(CodingErrorAction.REPLACE)
+              .onUnmappableCharacter(CodingErrorAction.REPLACE)
+      ));
+    ) {
+      String line;
+
+      while ((line = reader.readLine()) != null) {
+        GameEvent event;
+
+        try {
+          event = GSON.fromJson(line, GameEvent.class);
+        } catch (JsonParseException e) {
+          if (reader.readLine() == null) {
+            break;
+          }
+          throw new IllegalStateException("Corrupt journal of game " + gameId, e);
+        }
+
+        if (event != null) {
+          events.add(event);
+        }
+      }
+    }
+
+    return events;
+  }
+
+  /**
+   * Cuts a torn last line, as left by a crash during a write, off a journal,
+   * so that events appended afterwards start on a line of their own.
+   *
+   * @param journal The journal file; nothing happens if it does not exist.
+   * @throws IOException if the journal cannot be read or written.
+   */
+  private static void truncateTornLine(Path journal) throws IOException {
+    if (!Files.exists(journal)) {
+      return;
+    }
+
+    try (
+      FileChannel channel = FileChannel.open(
+          journal, StandardOpenOption.READ, StandardOpenOption.WRITE
+      );
+    ) {
+      ByteBuffer buffer = ByteBuffer.allocate(4096);
+      long size = channel.size();
+      long end = size;
+      long lineEnd = -1;
+
+      while (end > 0 && lineEnd < 0) {
+        long start = Math.max(0, end - buffer.capacity());
+
+        buffer.clear().limit((int) (end - start));
+        while (buffer.hasRemaining()) {
+          if (channel.read(buffer, start + buffer.position()) < 0) {
+            throw new EOFException("Journal shrank while reading: " + journal);
+          }
+        }
+
+        for (int i = buffer.limit() - 1; i >= 0 && lineEnd < 0; i--) {
+          if (buffer.get(i) == '\n') {
+            lineEnd = start + i + 1;
+          }
+        }
+        end = start;
+      }
+
+      lineEnd = Math.max(0, lineEnd);
+      if (lineEnd < size) {
+        channel.truncate(lineEnd);
+        channel.force(false);
+      }
+    }
+  }
+
+  /**
+   * Returns the path of the journal of a game.
+   *
+   * @param directory The directory holding the journal.
+   * @param gameId Identifier of the game.
+   */
+  private static Path journalPath(Path directory, String gameId) {
+    return directory.resolve(gameId + ".journal");
+  }
+
+  /**
+   * Returns the path of the snapshot of a game.
+   *
+   * @param directory The directory holding the snapshot.
+   * @param gameId Identifier of the game.
+   */
+  private static Path snapshotPath(Path directory, String gameId) {
+    return directory.resolve(gameId + ".snapshot");
+  }
+
+  /** Returns the {@link #gameId identifier of the game}. */
+  public String getGameId() {
+    return this.gameId;
+  }
+
+  @Override
+  public synchronized void gameStarted(Game game) {
+    Round round = game.getRound();
+
+    this.seq = round.getGuessedCharCount() + round.getGuessedWordCount();
+    writeSnapshot(round);
+  }
+
+  @Override
+  public void charGuessed(Game game, char guessedChar, boolean correct) {
+    append(game.getRound(), GameEvent.Type.CHAR, String.valueOf(guessedChar));
+  }
+
+  @Override
+  public void wordGuessed(Game game, String guessedWord, boolean correct) {
+    append(game.getRound(), GameEvent.Type.WORD, guessedWord);
+  }
+
+  @Override
+  public synchronized void gameEnded(Game game, boolean won) {
+    writeSnapshot(game.getRound());
+  }
+
+  /**
+   * Journals a guess. Syncs the journal and writes a snapshot when due.
+   *
+   * @param round The round the guess was made in.
+   * @param type Kind of the guess.
+   * @param guess The guessed character or word.
+   */
+  private synchronized void append(Round round, GameEvent.Type type, String guess) {
+    try {
+      GSON.toJson(new GameEvent(++this.seq, type, guess), this.writer);
+      this.writer.write('\n');
+
+      if (++this.unsynced >= this.syncEvery) {
+        sync();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    if (this.seq % this.snapshotEvery == 0) {
+      writeSnapshot(round);
+    }
+  }
+
+  /**
+   * Writes the snapshot of a round, replacing the previous snapshot
+   * atomically. The journal is synced first, so that the snapshot never
+   * refers to events that are not on the disk.
+   *
+   * @param round The round to capture.
+   */
+  private synchronized void writeSnapshot(Round round) {
+    Path snapshot = snapshotPath(this.directory, this.gameId);
+    Path temporary = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+
+    try {
+      sync();
+
+      try (
+        FileChannel channel = FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        );
+      ) {
+        Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+        GSON.toJson(GameSnapshot.of(this.gameId, this.seq, round), writer);
+        writer.flush();
+        channel.force(false);
+      }
+
+      Files.move(
+          temporary, snapshot,
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+      );
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes buffered events to the journal file and forces them to the disk.
+   *
+   * @throws IOException if the journal cannot be written.
+   */
+  public synchronized void sync() throws IOException {
+    if (!this.channel.isOpen()) {
+      return;
+    }
+
+    this.writer.flush();
+    if (this.unsynced > 0) {
+      this.channel.force(false);
+      this.unsynced = 0;
+    }
+  }
+
+  /** Syncs the journal, reporting failures instead of throwing them. */
+  private void syncQuietly() {
+    try {
+      sync();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Syncs and closes the journal.
+   *
+   * @throws IOException if the journal cannot be written.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (this.periodicSync != null) {
+      this.periodicSync.cancel(false);
+    }
+
+    try {
+      sync();
+    } finally {
+      this.writer.close();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package main.persistence;
+
+import java.util.List;
+import main.hangman.Round;
+
+/**
+ * Compact state of a game at a point of its journal. Together with the
+ * events recorded after it, a snapshot restores the game.
+ *
+ * @author Neufeld-Martin
+ */
+public class GameSnapshot {
+  /** Identifier of the game. */
+  private String gameId;
+
+  /** Sequence number of the last guess included in this snapshot. */
+  private long seq;
+
+  /** The word to guess. */
+  private String word;
+
+  /** All guessed characters in alphabetical order. */
+  private String guessedChars;
+
+  /** All guessed words in alphabetical order. */
+  private List<String> guessedWords;
+
+  /** Amount of wrong guesses. */
+  private int wrongGuesses;
+
+  /** Maximum amount of wrong guesses. */
+  private int maxGuesses;
+
+  /** Whether the game is over. */
+  private boolean finished;
+
+  /**
+   * Creates the snapshot of a round.
+   *
+   * @param gameId the {@link #gameId identifier of the game}.
+   * @param seq the {@link #seq sequence number of the last guess}.
+   * @param round The round to capture.
+   * @return The snapshot.
+   */
+  public static GameSnapshot of(String gameId, long seq, Round round) {
+    GameSnapshot snapshot = new GameSnapshot();
+    StringBuilder guessedChars = new StringBuilder();
+
+    round.getGuessedCharsReadOnly().forEach(guessedChars::append);
+
+    snapshot.gameId = gameId;
+    snapshot.seq = seq;
+    snapshot.word = round.getWordToGuess();
+    snapshot.guessedChars = guessedChars.toString();
+    snapshot.guessedWords = List.copyOf(round.getGuessedWordsReadOnly());
+    snapshot.wrongGuesses = round.getWrongGuesses();
+    snapshot.maxGuesses = round.getMaxGuesses();
+    snapshot.finished = round.isOver();
+    return snapshot;
+  }
+
+  /**
+   * Restores the round captured by this snapshot by replaying its guesses.
+   *
+   * @return The round.
+   * @throws IllegalStateException if the snapshot is inconsistent.
+   */
+  public Round toRound() {
+    Round round = new Round(this.word, this.maxGuesses);
+
+    for (int i = 0; i < this.guessedChars.length(); i++) {
+      round.guessChar(this.guessedChars.charAt(i));
+    }
+    for (String guessedWord : this.guessedWords) {
+      round.guessWord(guessedWord);
+    }
+
+    if (round.getWrongGuesses() != this.wrongGuesses) {
+      throw new IllegalStateException("Inconsistent snapshot of game " + this.gameId);
+    }
+
+    return round;
+  }
+
+  /** Returns the {@link #gameId identifier of the game}. */
+  public String getGameId() {
+    return this.gameId;
+  }
+
+  /** Returns the {@link #seq sequence number of the last guess}. */
+  public long getSeq() {
+    return this.seq;
+  }
+
+  /** Returns the {@link #word word to guess}. */
+  public String getWord() {
+    return this.word;
+  }
+
+  /** Returns the {@link #maxGuesses maximum amount of wrong guesses}. */
+  public int getMaxGuesses() {
+    return this.maxGuesses;
+  }
+
+  /** Returns whether the {@link #finished game is over}. */
+  public boolean isFinished() {
+    return this.finished;
+  }
+}
@@ -0,0 +1,222 @@
+package main.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import main.hangman.GamePool;
+import main.hangman.Options;
+import main.metrics.Metrics;
+import main.simulation.WordScorer;
+import main.spectator.Broadcast;
+import main.tournament.Leaderboard;
+import main.words.AdaptiveWordSource;
+import main.words.Dictionary;
+import main.words.DictionaryWordSource;
+import main.words.WordSource;
+
+/**
+ * TCP server hosting many concurrent games of Hangman, one {@link Session}
+ * per connection.
+ *
+ * <p>Each session runs on its own thread. The threads are created with a
+ * small stack and all per-session buffers are bounded, so thousands of
+ * sessions fit into a single JVM.
+ *
+ * @author Neufeld-Martin
+ */
+public class HangmanServer implements AutoCloseable {
+  /** Stack size of session threads in bytes. */
+  private static final long SESSION_STACK_SIZE = 256 * 1024;
+
+  /** The listening socket. */
+  private final ServerSocket serverSocket;
+
+  /** The open sessions. */
+  private final SessionRegistry registry;
+
+  /** Source of words to guess, or {@code null} to let player one provide them. */
+  private final WordSource wordSource;
+
+  /** Maximum amount of wrong guesses per game. */
+  private final int maxGuesses;
+
+  /** Scores of the games played on this server. */
+  private final Leaderboard leaderboard = new Leaderboard();
+
+  /** Broadcasts of the games being played, by session id. */
+  private final Map<Long, Broadcast> broadcasts = new ConcurrentHashMap<>();
+
+  /** Games reused by the sessions. */
+  private final GamePool gamePool = new GamePool();
+
+  /** Id of the next session. */
+  private final AtomicLong nextSessionId = new AtomicLong(1);
+
+  /**
+   * Constructs an instance of this class and binds its socket.
+   *
+   * @param address Address to bind to; port {@code 0} picks a free port.
+   * @param registry the {@link #registry open sessions}.
+   * @param wordSource the {@link #wordSource source of words to guess}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @throws IOException if the socket cannot be bound.
+   */
+  public HangmanServer(
+      InetSocketAddress address, SessionRegistry registry, WordSource wordSource, int maxGuesses
+  ) throws IOException {
+    this.serverSocket = new ServerSocket();
+    this.serverSocket.bind(address);
+    this.registry = registry;
+    this.wordSource = wordSource;
+    this.maxGuesses = maxGuesses;
+  }
+
+  /** Returns the {@link #registry open sessions}. */
+  public SessionRegistry getRegistry() {
+    return this.registry;
+  }
+
+  /** Returns the {@link #wordSource source of words to guess}. */
+  public WordSource getWordSource() {
+    return this.wordSource;
+  }
+
+  /** Returns the {@link #maxGuesses maximum amount of wrong guesses}. */
+  public int getMaxGuesses() {
+    return this.maxGuesses;
+  }
+
+  /** Returns the {@link #leaderboard scores of the games played}. */
+  public Leaderboard getLeaderboard() {
+    return this.leaderboard;
+  }
+
+  /** Returns the {@link #broadcasts broadcasts of the games being played}. */
+  public Map<Long, Broadcast> getBroadcasts() {
+    return this.broadcasts;
+  }
+
+  /** Returns the {@link #gamePool games reused by the sessions}. */
+  public GamePool getGamePool() {
+    return this.gamePool;
+  }
+
+  /** Returns the port the server listens on. */
+  public int getPort() {
+    return this.serverSocket.getLocalPort();
+  }
+
+  /**
+   * Accepts connections until the server is {@link #close() closed}.
+   */
+  public void serve() {
+    while (!this.serverSocket.isClosed()) {
+      try {
+        accept(this.serverSocket.accept());
+      } catch (IOException e) {
+        if (!this.serverSocket.isClosed()) {
+          e.printStackTrace();
+        }
+      }
+    }
+  }
+
+  /**
+   * Starts a session for a connection, or rejects it if the server is full.
+   *
+   * @param socket The connection.
+   * @throws IOException if the connection fails.
+   */
+  private void accept(Socket socket) throws IOException {
+    Session session = new Session(this.nextSessionId.getAndIncrement(), socket, this);
+
+    if (!this.registry.add(session)) {
+      try (Socket rejected = socket; OutputStream out = rejected.getOutputStream()) {
+        out.write("BUSY\n".getBytes(StandardCharsets.UTF_8));
+      }
+      return;
+    }
+
+    Thread thread = new Thread(
+        null, session, "hangman-session-" + session.getId(), SESSION_STACK_SIZE
+    );
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Stops accepting connections and closes all sessions. */
+  @Override
+  public void close() throws IOException {
+    this.serverSocket.close();
+    this.registry.close();
+  }
+
+  /**
+   * Runs a server from the command line.
+   *
+   * <p>Supported options:<ul>
+   *     <li>{@code --host <address>} - address to bind to, loopback by
+   *     default.</li>
+   *     <li>{@code --port <n>} - port to listen on, {@code 4242} by default.</li>
+   *     <li>{@code --words <file>} - pick words from a word list instead of
+   *     asking player one.</li>
+   *     <li>{@code --adaptive} - pick words matching the win rate of each
+   *     player, see {@link AdaptiveWordSource}; requires {@code --words}.</li>
+   *     <li>{@code --max-sessions <n>} - maximum amount of concurrent
+   *     sessions, {@code 10000} by default.</li>
+   *     <li>{@code --idle-timeout <seconds>} - close sessions idle for longer,
+   *     {@code 300} by default.</li>
+   *     <li>{@code --max-guesses <n>} - maximum amount of wrong guesses,
+   *     {@code 8} by default.</li>
+   *     </ul>
+   *
+   * <p>The {@link Metrics metrics} of the server are registered with JMX.
+   *
+   * @param args Command-line arguments.
+   * @throws IOException if the server cannot be started.
+   */
+  public static void main(String[] args) throws IOException {
+    Options options = Options.parse(args);
+    Metrics.init();
+    Metrics.registerMBean();
+
+    int maxGuesses = options.getInt("max-guesses", 8);
+    WordSource wordSource = null;
+
+    if (options.has("words")) {
+      Path wordList = Path.of(options.get("words", null));
+      Dictionary dictionary = Dictionary.open(wordList);
+
+      wordSource = options.has("adaptive")
+          ? new AdaptiveWordSource(dictionary, new WordScorer(maxGuesses).update(wordList, dictionary))
+          : new DictionaryWordSource(dictionary);
+    }
+
+    InetSocketAddress address = new InetSocketAddress(
+        InetAddress.getByName(options.get("host", InetAddress.getLoopbackAddress().getHostAddress())),
+        options.getInt("port", 4242)
+    );
+
+    try (
+      HangmanServer server = new HangmanServer(
+          address,
+          new SessionRegistry(
+              options.getInt("max-sessions", 10000), options.getInt("idle-timeout", 300)
+          ),
+          wordSource,
+          maxGuesses
+      );
+    ) {
+      System.out.printf("Listening on port %d ...%n", server.getPort());
+      server.serve();
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package main.server;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import main.hangman.Game;
+import main.io.Port;
+import main.io.SocketPort;
+import main.terminal.Animator;
+import main.spectator.Broadcast;
+import main.spectator.Frame;
+import main.spectator.Subscription;
+import main.words.WordSource;
+
+/**
+ * A single client connection of a {@link HangmanServer}.
+ *
+ * <p>The session speaks a line-based protocol. After the greeting
+ * {@code HANGMAN <session-id>}, the client sends one of the commands:<ul>
+ *     <li>{@code NAME <name>} - set the name games are recorded under in the
+ *     leaderboard of the server, {@code guest-<session-id>} by default.</li>
+ *     <li>{@code PLAY} - play a game. Player one is asked for the word to
+ *     guess unless the server picks words from a dictionary.</li>
+ *     <li>{@code TOP} - list the best players of the server.</li>
+ *     <li>{@code WATCH <session-id>} - watch the game being played in
+ *     another session until it ends, followed by {@code END}.</li>
+ *     <li>{@code QUIT} - close the session.</li>
+ *     </ul>
+ * While a game is played, the game prompts and the client answers line by
+ * line exactly as on a terminal. The hanged man is drawn without animation,
+ * so that a client that stops reading blocks its own session only.
+ *
+ * @author Neufeld-Martin
+ */
+public class Session implements Runnable {
+  /** Amount of lines of the client's screen assumed for drawing. */
+  private static final int SCREEN_LINES = 24;
+
+  /** Amount of columns of the client's screen assumed for drawing. */
+  private static final int SCREEN_COLUMNS = 80;
+
+  /** Id of this session, unique within the server. */
+  private final long id;
+
+  /** The client connection. */
+  private final Socket socket;
+
+  /** The server this session belongs to. */
+  private final HangmanServer server;
+
+  /** Amount of players listed by the {@code TOP} command. */
+  private static final int TOP = 10;
+
+  /** Time after which a spectator checks whether its connection is still open, in seconds. */
+  private static final long WATCH_CHECK_INTERVAL = 1;
+
+  /** Name the games of the client are recorded under. */
+  private String playerName;
+
+  /** Point in time the session was created, see {@link System#nanoTime()}. */
+  private final long created = System.nanoTime();
+
+  /**
+   * Point in time the client was last sent a frame of a watched game, see
+   * {@link System#nanoTime()}.
+   */
+  private volatile long lastWatched = this.created;
+
+  /** The port of the client connection, or {@code null} if not opened yet. */
+  private volatile SocketPort port;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param id the {@link #id id of this session}.
+   * @param socket the {@link #socket client connection}.
+   * @param server the {@link #server server this session belongs to}.
+   */
+  public Session(long id, Socket socket, HangmanServer server) {
+    this.id = id;
+    this.socket = socket;
+    this.server = server;
+    this.playerName = "guest-" + id;
+  }
+
+  /** Returns the {@link #id id of this session}. */
+  public long getId() {
+    return this.id;
+  }
+
+  /**
+   * Returns the point in time of the last input of the client or of the last
+   * frame of a watched game sent to it, or of the creation of this session
+   * if there was neither. See {@link System#nanoTime()}.
+   */
+  public long getLastActivity() {
+    SocketPort port = this.port;
+    long lastInput = port == null ? this.created : port.getLastInput();
+    return lastInput - this.lastWatched > 0 ? lastInput : this.lastWatched;
+  }
+
+  @Override
+  public void run() {
+    try {
+      this.port = new SocketPort(this.socket, SCREEN_LINES, SCREEN_COLUMNS);
+      this.port.out().printf("HANGMAN %d%n", getId());
+      serve(this.port);
+    } catch (IOException | NoSuchElementException e) {
+      // The client disconnected or the session was closed as idle.
+    } finally {
+      if (this.port != null) {
+        this.port.close();
+      } else {
+        close();
+      }
+      this.server.getRegistry().remove(this);
+    }
+  }
+
+  /**
+   * Reads and executes commands until the client quits.
+   *
+   * @param port Port of the client connection.
+   */
+  private void serve(Port port) {
+    while (true) {
+      port.out().print("> ");
+
+      switch (port.next().toUpperCase(Locale.ROOT)) {
+        case "NAME":
+          this.playerName = port.next();
+          port.out().printf("OK %s%n", this.playerName);
+          break;
+
+        case "PLAY":
+          play(port);
+          break;
+
+        case "WATCH":
+          watch(port, port.next());
+          break;
+
+        case "TOP":
+          this.server.getLeaderboard().top(TOP)
+              .forEach(standing -> port.out().printf("%s%n", standing));
+          port.out().println("END");
+          break;
+
+        case "QUIT":
+          port.out().println("BYE");
+          port.flush();
+          return;
+
+        default:
+          port.out().println("ERROR unknown command, expected NAME, PLAY, WATCH, TOP or QUIT");
+      }
+    }
+  }
+
+  /**
+   * Plays a game with the client and records it in the leaderboard of the
+   * server.
+   *
+   * @param port Port of the client connection.
+   */
+  private void play(Port port) {
+    WordSource wordSource = this.server.getWordSource();
+    Game game = this.server.getGamePool().acquire(
+        port,
+        wordSource == null ? null : wordSource.nextWord(this.playerName),
+        this.server.getMaxGuesses()
+    );
+    Broadcast broadcast = new Broadcast();
+
+    game.getPrinter().setAnimator(new Animator(0));
+
+    game.addListener(broadcast);
+    this.server.getBroadcasts().put(getId(), broadcast);
+
+    try {
+      game.play();
+
+      this.server.getLeaderboard().record(null, this.playerName, game.getRound());
+      if (wordSource != null) {
+        wordSource.recordResult(this.playerName, game.getRound().isWon());
+      }
+    } finally {
+      broadcast.close();
+      this.server.getBroadcasts().remove(getId(), broadcast);
+      this.server.getGamePool().release(game);
+    }
+  }
+
+  /**
+   * Streams the game being played in another session to the client until
+   * it ends or the client disconnects.
+   *
+   * @param port Port of the client connection.
+   * @param sessionId Id of the session to watch.
+   */
+  private void watch(Port port, String sessionId) {
+    Broadcast broadcast;
+
+    try {
+      broadcast = this.server.getBroadcasts().get(Long.parseLong(sessionId));
+    } catch (NumberFormatException e) {
+      broadcast = null;
+    }
+
+    if (broadcast == null) {
+      port.out().printf("ERROR no game in session %s%n", sessionId);
+      return;
+    }
+
+    Subscription subscription = broadcast.subscribe();
+
+    while (!port.out().checkError()) {
+      Frame frame = subscription.take(WATCH_CHECK_INTERVAL, TimeUnit.SECONDS);
+
+      if (frame == null) {
+        continue;
+      }
+
+      port.out().write(frame.getContent(), 0, frame.getContent().length);
+      port.flush();
+      this.lastWatched = System.nanoTime();
+
+      if (frame.isLast()) {
+        port.out().println("END");
+        return;
+      }
+    }
+  }
+
+  /** Closes the connection, which ends the session. */
+  public void close() {
+    try {
+      this.socket.close();
+    } catch (IOException e) {
+      // Already closed.
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package main.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the open sessions of a {@link HangmanServer}. Limits the amount
+ * of concurrent sessions and closes sessions whose client was idle for too
+ * long.
+ *
+ * @author Neufeld-Martin
+ */
+public class SessionRegistry implements AutoCloseable {
+  /** Open sessions by id. */
+  private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+
+  /** Amount of open sessions, including sessions that are being registered. */
+  private final AtomicInteger size = new AtomicInteger();
+
+  /** Maximum amount of open sessions. */
+  private final int maxSessions;
+
+  /** Time after which an idle session is closed in nanoseconds. */
+  private final long idleTimeout;
+
+  /** Scheduler periodically closing idle sessions. */
+  private final ScheduledExecutorService reaper;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param maxSessions the {@link #maxSessions maximum amount of open sessions}.
+   * @param idleTimeout the {@link #idleTimeout time after which an idle
+   *     session is closed} in seconds.
+   */
+  public SessionRegistry(int maxSessions, long idleTimeout) {
+    this.maxSessions = maxSessions;
+    this.idleTimeout = TimeUnit.SECONDS.toNanos(idleTimeout);
+    this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "hangman-session-reaper");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    long period = Math.max(1, idleTimeout / 4);
+    this.reaper.scheduleAtFixedRate(this::closeIdleSessions, period, period, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Registers a session.
+   *
+   * @param session The session.
+   * @return {@code true} if the session was registered, {@code false} if the
+   *     maximum amount of open sessions is reached.
+   */
+  public boolean add(Session session) {
+    if (this.size.incrementAndGet() > this.maxSessions) {
+      this.size.decrementAndGet();
+      return false;
+    }
+
+    this.sessions.put(session.getId(), session);
+    return true;
+  }
+
+  /**
+   * Unregisters a session.
+   *
+   * @param session The session.
+   */
+  public void remove(Session session) {
+    if (this.sessions.remove(session.getId(), session)) {
+      this.size.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns a session by id.
+   *
+   * @param id Id of the session.
+   * @return The session, or {@code null} if there is no such open session.
+   */
+  public Session get(long id) {
+    return this.sessions.get(id);
+  }
+
+  /** Returns the amount of open sessions. */
+  public int size() {
+    return this.sessions.size();
+  }
+
+  /** Closes all sessions whose client was idle for longer than the timeout. */
+  private void closeIdleSessions() {
+    long now = System.nanoTime();
+
+    for (Session session : this.sessions.values()) {
+      if (now - session.getLastActivity() > this.idleTimeout) {
+        session.close();
+      }
+    }
+  }
+
+  /** Closes all sessions and stops closing idle sessions. */
+  @Override
+  public void close() {
+    this.reaper.shutdownNow();
+    this.sessions.values().forEach(Session::close);
+  }
+}
@@ -0,0 +1,100 @@
+package main.simulation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of a batch of rounds played by a {@link BatchRunner}.
+ *
+ * @author Neufeld-Martin
+ */
+public class BatchResult {
+  /** Amount of rounds played. */
+  private final long games;
+
+  /** Amount of rounds won by the guesser. */
+  private final long wins;
+
+  /** Total amount of wrong guesses over all rounds. */
+  private final long wrongGuesses;
+
+  /** Total amount of guesses over all rounds. */
+  private final long guesses;
+
+  /** Wall-clock time the batch took in nanoseconds. */
+  private final long elapsedNanos;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param games the {@link #games amount of rounds played}.
+   * @param wins the {@link #wins amount of rounds won}.
+   * @param wrongGuesses the {@link #wrongGuesses total amount of wrong guesses}.
+   * @param guesses the {@link #guesses total amount of guesses}.
+   * @param elapsedNanos the {@link #elapsedNanos time the batch took}.
+   */
+  public BatchResult(long games, long wins, long wrongGuesses, long guesses, long elapsedNanos) {
+    this.games = games;
+    this.wins = wins;
+    this.wrongGuesses = wrongGuesses;
+    this.guesses = guesses;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /** Returns the {@link #games amount of rounds played}. */
+  public long getGames() {
+    return this.games;
+  }
+
+  /** Returns the {@link #wins amount of rounds won}. */
+  public long getWins() {
+    return this.wins;
+  }
+
+  /** Returns the amount of rounds lost. */
+  public long getLosses() {
+    return this.games - this.wins;
+  }
+
+  /** Returns the {@link #wrongGuesses total amount of wrong guesses}. */
+  public long getWrongGuesses() {
+    return this.wrongGuesses;
+  }
+
+  /** Returns the {@link #guesses total amount of guesses}. */
+  public long getGuesses() {
+    return this.guesses;
+  }
+
+  /** Returns the {@link #elapsedNanos time the batch took} in nanoseconds. */
+  public long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /** Returns the share of rounds won, between 0 and 1. */
+  public double getWinRate() {
+    return this.games == 0 ? 0 : (double) this.wins / this.games;
+  }
+
+  /** Returns the throughput in rounds per second. */
+  public double getGamesPerSecond() {
+    return this.elapsedNanos == 0
+        ? 0
+        : this.games * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "games=%d, wins=%d, losses=%d, winRate=%.4f, avgWrongGuesses=%.3f, "
+            + "avgGuesses=%.3f, elapsed=%dms, gamesPerSecond=%.0f",
+        getGames(),
+        getWins(),
+        getLosses(),
+        getWinRate(),
+        getGames() == 0 ? 0 : (double) getWrongGuesses() / getGames(),
+        getGames() == 0 ? 0 : (double) getGuesses() / getGames(),
+        TimeUnit.NANOSECONDS.toMillis(getElapsedNanos()),
+        getGamesPerSecond()
+    );
+  }
+}
@@ -0,0 +1,161 @@
+package main.simulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import main.hangman.Round;
+import main.solver.CandidateSolver;
+import main.words.Dictionary;
+
+/**
+ * Plays rounds of Hangman without a terminal, using a {@link Guesser} for the
+ * guessing side. Serves the purpose of evaluating guessing strategies and of
+ * load-testing the game rules.
+ *
+ * @author Neufeld-Martin
+ */
+public class BatchRunner {
+  /** The words to guess. Rounds cycle through them in order. */
+  private final List<String> words;
+
+  /** The guesser playing the rounds. */
+  private final Guesser guesser;
+
+  /** Maximum amount of wrong guesses per round. */
+  private final int maxGuesses;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param words the {@link #words words to guess}. Must not be empty.
+   * @param guesser the {@link #guesser guesser playing the rounds}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   */
+  public BatchRunner(List<String> words, Guesser guesser, int maxGuesses) {
+    if (words.isEmpty()) {
+      throw new IllegalArgumentException("No words to guess.");
+    }
+
+    this.words = words;
+    this.guesser = guesser;
+    this.maxGuesses = maxGuesses;
+  }
+
+  /**
+   * Plays a single round to the end.
+   *
+   * @param word The word to guess.
+   * @return The finished round.
+   */
+  public Round play(String word) {
+    return play(word, this.guesser, this.maxGuesses);
+  }
+
+  /**
+   * Plays a single round to the end, letting a guesser make all guesses.
+   *
+   * @param word The word to guess.
+   * @param guesser The guesser.
+   * @param maxGuesses Maximum amount of wrong guesses.
+   * @return The finished round.
+   */
+  public static Round play(String word, Guesser guesser, int maxGuesses) {
+    Round round = new Round(word, maxGuesses);
+
+    while (!round.isOver()) {
+      Guess guess = guesser.nextGuess(round);
+
+      if (guess.isWord()) {
+        round.guessWord(guess.getWord());
+      } else {
+        round.guessChar(guess.getChar());
+      }
+    }
+
+    return round;
+  }
+
+  /**
+   * Plays a batch of rounds.
+   *
+   * @param games Amount of rounds to play.
+   * @return Summary of the batch.
+   */
+  public BatchResult run(long games) {
+    long wins = 0;
+    long wrongGuesses = 0;
+    long guesses = 0;
+    long start = System.nanoTime();
+
+    for (long i = 0; i < games; i++) {
+      Round round = play(this.words.get((int) (i % this.words.size())));
+
+      if (round.isWon()) {
+        wins++;
+      }
+      wrongGuesses += round.getWrongGuesses();
+      guesses += round.getGuessedCharCount() + round.getGuessedWordCount();
+    }
+
+    return new BatchResult(games, wins, wrongGuesses, guesses, System.nanoTime() - start);
+  }
+
+  /**
+   * Reads a word list. Blank lines and words that are not {@link
+   * Round#isValidWord(String) valid} are skipped.
+   *
+   * @param path File with one word per line.
+   * @return The valid words, converted to upper case.
+   * @throws IOException if the file cannot be read.
+   */
+  public static List<String> readWords(Path path) throws IOException {
+    try (Stream<String> lines = Files.lines(path)) {
+      return lines
+          .map(line -> line.trim().toUpperCase(Locale.ROOT))
+          .filter(Round::isValidWord)
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Creates a guesser by name.
+   *
+   * @param name {@code solver} for a {@link CandidateSolver} over the word
+   *     list, anything else for a {@link FrequencyGuesser}.
+   * @param wordList File with one word per line.
+   * @return The guesser.
+   * @throws IOException if the word list cannot be read.
+   */
+  public static Guesser createGuesser(String name, Path wordList) throws IOException {
+    return name.equals("solver")
+        ? new CandidateSolver(Dictionary.open(wordList))
+        : new FrequencyGuesser();
+  }
+
+  /**
+   * Runs a batch from the command line.
+   *
+   * @param args Command-line arguments:
+   *     {@code <word-list> [games] [maxGuesses] [frequency|solver]}.
+   * @throws IOException if the word list cannot be read.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: BatchRunner <word-list> [games] [maxGuesses] [frequency|solver]");
+      System.exit(2);
+    }
+
+    List<String> words = readWords(Path.of(args[0]));
+    long games = args.length > 1 ? Long.parseLong(args[1]) : words.size();
+    int maxGuesses = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+    Guesser guesser = createGuesser(args.length > 3 ? args[3] : "frequency", Path.of(args[0]));
+
+    BatchRunner runner = new BatchRunner(words, guesser, maxGuesses);
+    System.out.println(runner.run(games));
+  }
+}
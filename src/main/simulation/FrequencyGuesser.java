@@ -0,0 +1,27 @@
+package main.simulation;
+
+import main.hangman.Round;
+
+/**
+ * Guesser that guesses characters in the order of their frequency in English
+ * words and never guesses a word.
+ *
+ * @author Neufeld-Martin
+ */
+public class FrequencyGuesser implements Guesser {
+  /** Letters A-Z ordered by their frequency in English words. */
+  private static final String LETTERS_BY_FREQUENCY = "ESIARNTOLCDUGPMKHBYFVWZXQJ";
+
+  @Override
+  public Guess nextGuess(Round round) {
+    for (int i = 0; i < LETTERS_BY_FREQUENCY.length(); i++) {
+      char chr = LETTERS_BY_FREQUENCY.charAt(i);
+
+      if (!round.isGuessedChar(chr)) {
+        return Guess.ofChar(chr);
+      }
+    }
+
+    throw new IllegalStateException("All letters are guessed already.");
+  }
+}
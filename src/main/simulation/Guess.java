@@ -0,0 +1,66 @@
+package main.simulation;
+
+/**
+ * A guess made by a {@link Guesser}, either of a single character or of a
+ * whole word.
+ *
+ * @author Neufeld-Martin
+ */
+public class Guess {
+  /** The guessed character, if this is a character guess. */
+  private final char chr;
+
+  /** The guessed word, or {@code null} if this is a character guess. */
+  private final String word;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param chr the {@link #chr guessed character}.
+   * @param word the {@link #word guessed word}.
+   */
+  private Guess(char chr, String word) {
+    this.chr = chr;
+    this.word = word;
+  }
+
+  /**
+   * Creates a character guess.
+   *
+   * @param chr The guessed character.
+   * @return The guess.
+   */
+  public static Guess ofChar(char chr) {
+    return new Guess(chr, null);
+  }
+
+  /**
+   * Creates a word guess.
+   *
+   * @param word The guessed word.
+   * @return The guess.
+   */
+  public static Guess ofWord(String word) {
+    return new Guess('\0', word);
+  }
+
+  /** Returns {@code true} if this is a word guess, {@code false} otherwise. */
+  public boolean isWord() {
+    return this.word != null;
+  }
+
+  /** Returns the {@link #chr guessed character}. */
+  public char getChar() {
+    return this.chr;
+  }
+
+  /** Returns the {@link #word guessed word}. */
+  public String getWord() {
+    return this.word;
+  }
+
+  @Override
+  public String toString() {
+    return isWord() ? this.word : String.valueOf(this.chr);
+  }
+}
@@ -0,0 +1,19 @@
+package main.simulation;
+
+import main.hangman.Round;
+
+/**
+ * A strategy that plays the guessing side of a {@link Round}.
+ *
+ * @author Neufeld-Martin
+ */
+public interface Guesser {
+  /**
+   * Decides on the next guess. The guess must be valid for the round, i.e. it
+   * must not repeat a previous guess.
+   *
+   * @param round The round being played. Must not be over.
+   * @return The next guess.
+   */
+  Guess nextGuess(Round round);
+}
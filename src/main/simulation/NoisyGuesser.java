@@ -0,0 +1,51 @@
+package main.simulation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import main.hangman.Alphabet;
+import main.hangman.Round;
+
+/**
+ * Guesser that models an imperfect player: it follows another guesser, but
+ * with a given probability guesses a random letter that is not guessed yet
+ * instead. Playing a word repeatedly therefore yields a solve rate rather
+ * than a single outcome.
+ *
+ * @author Neufeld-Martin
+ */
+public class NoisyGuesser implements Guesser {
+  /** The guesser followed. */
+  private final Guesser delegate;
+
+  /** Probability of a random guess, from {@code 0} to {@code 1}. */
+  private final double noise;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param delegate the {@link #delegate guesser followed}.
+   * @param noise the {@link #noise probability of a random guess}.
+   */
+  public NoisyGuesser(Guesser delegate, double noise) {
+    this.delegate = delegate;
+    this.noise = noise;
+  }
+
+  @Override
+  public Guess nextGuess(Round round) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    if (random.nextDouble() >= this.noise) {
+      return this.delegate.nextGuess(round);
+    }
+
+    Alphabet alphabet = round.getAlphabet();
+    long all = alphabet.size() == Long.SIZE ? -1L : (1L << alphabet.size()) - 1;
+    long unguessed = all & ~round.getGuessedLetterMask();
+
+    for (int skip = random.nextInt(Long.bitCount(unguessed)); skip > 0; skip--) {
+      unguessed &= unguessed - 1;
+    }
+
+    return Guess.ofChar(alphabet.letterAt(Long.numberOfTrailingZeros(unguessed)));
+  }
+}
@@ -0,0 +1,253 @@
+package main.simulation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import main.terminal.Bash;
+
+/**
+ * Plays rounds of Hangman on several worker processes at once, for
+ * evaluating guessing strategies with more rounds than a single JVM plays
+ * in reasonable time.
+ *
+ * <p>The word list is split into one contiguous shard per worker, and each
+ * worker is a {@link ShardWorker} in a JVM of its own, so that workers share
+ * neither heap nor garbage collector and throughput grows with the amount
+ * of processors. Workers are run through {@link Bash#run(ProcessBuilder,
+ * java.util.function.Consumer, java.util.function.Consumer, Duration)}: their
+ * output is consumed line by line while they run, and a worker exceeding
+ * the timeout is killed. The {@link ShardStats statistics} streamed by the
+ * workers are merged as they arrive, so that rounds played by a failed
+ * worker still count. Failures are reported through {@link #getFailures()}.
+ *
+ * @author Neufeld-Martin
+ */
+public class ShardCoordinator {
+  /** Time after which a worker is killed, if not specified otherwise. */
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofHours(1);
+
+  /** Options of the worker JVMs. Each worker plays on a single thread. */
+  private static final List<String> WORKER_OPTIONS = List.of("-XX:+UseSerialGC");
+
+  /** Amount of {@code stderr} lines kept per worker for reporting failures. */
+  private static final int STDERR_LINES = 10;
+
+  /** File with one word per line. */
+  private final Path wordList;
+
+  /** Maximum amount of wrong guesses per round. */
+  private final int maxGuesses;
+
+  /** Name of the guesser, see {@link BatchRunner#createGuesser(String, Path)}. */
+  private final String guesser;
+
+  /** Amount of worker processes. */
+  private final int workers;
+
+  /** Time after which a worker is killed. */
+  private final Duration timeout;
+
+  /** Descriptions of the workers that failed during the last run. */
+  private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param wordList the {@link #wordList word list}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @param guesser the {@link #guesser name of the guesser}.
+   * @param workers the {@link #workers amount of worker processes}.
+   * @param timeout the {@link #timeout time after which a worker is killed}.
+   */
+  public ShardCoordinator(
+      Path wordList, int maxGuesses, String guesser, int workers, Duration timeout
+  ) {
+    this.wordList = wordList;
+    this.maxGuesses = maxGuesses;
+    this.guesser = guesser;
+    this.workers = Math.max(1, workers);
+    this.timeout = timeout;
+  }
+
+  /** Returns the {@link #failures descriptions of the workers that failed}. */
+  public List<String> getFailures() {
+    return List.copyOf(this.failures);
+  }
+
+  /**
+   * Plays rounds on all workers and waits for them to finish.
+   *
+   * @param games Amount of rounds of all workers.
+   * @return The merged statistics of all workers.
+   * @throws IOException if the word list cannot be read.
+   * @throws IllegalArgumentException if the word list has no valid words.
+   */
+  public ShardStats run(long games) throws IOException {
+    int words = BatchRunner.readWords(this.wordList).size();
+    if (words == 0) {
+      throw new IllegalArgumentException("No words to guess.");
+    }
+
+    int shards = Math.min(this.workers, words);
+    ShardStats total = new ShardStats();
+    ExecutorService launchers = Executors.newFixedThreadPool(shards, runnable -> {
+      Thread thread = new Thread(runnable, "shard-launcher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    List<Future<?>> runs = new ArrayList<>();
+
+    this.failures.clear();
+
+    try {
+      for (int shard = 0; shard < shards; shard++) {
+        int index = shard;
+        runs.add(launchers.submit(
+            () -> runShard(index, shards, ShardWorker.gamesOf(games, index, shards), total)
+        ));
+      }
+
+      for (Future<?> run : runs) {
+        run.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      this.failures.add("interrupted while waiting for the workers");
+    } catch (ExecutionException e) {
+      this.failures.add("coordinator: " + e.getCause());
+    } finally {
+      launchers.shutdownNow();
+    }
+
+    return total;
+  }
+
+  /**
+   * Runs the worker of a shard and merges its statistics as they arrive.
+   *
+   * @param shard Index of the shard.
+   * @param shards Amount of shards.
+   * @param games Amount of rounds of the shard.
+   * @param total The statistics to merge into.
+   */
+  private void runShard(int shard, int shards, long games, ShardStats total) {
+    List<String> stderr = Collections.synchronizedList(new ArrayList<>());
+    boolean[] done = new boolean[1];
+
+    Bash.Result result = Bash.run(
+        new ProcessBuilder(command(shard, shards, games)),
+        line -> {
+          if (line.startsWith(ShardStats.PREFIX + " ")) {
+            try {
+              total.add(ShardStats.parse(line));
+            } catch (IllegalArgumentException e) {
+              keep(stderr, e.getMessage());
+            }
+          } else if (line.startsWith(ShardWorker.DONE)) {
+            done[0] = true;
+          }
+        },
+        line -> keep(stderr, line),
+        this.timeout
+    );
+
+    if (!result.isSuccess() || !done[0]) {
+      this.failures.add(String.format(
+          "shard %d: exitValue=%d, timedOut=%b, done=%b, error=%s, stderr=%s",
+          shard, result.getExitValue(), result.isTimedOut(), done[0], result.getError(), stderr
+      ));
+    }
+  }
+
+  /**
+   * Keeps a line of {@code stderr}, dropping the oldest one if too many are
+   * kept.
+   *
+   * @param lines The lines kept so far.
+   * @param line The line.
+   */
+  private static void keep(List<String> lines, String line) {
+    if (lines.size() == STDERR_LINES) {
+      lines.remove(0);
+    }
+    lines.add(line);
+  }
+
+  /**
+   * Composes the command launching the worker of a shard.
+   *
+   * @param shard Index of the shard.
+   * @param shards Amount of shards.
+   * @param games Amount of rounds of the shard.
+   * @return The command.
+   */
+  private List<String> command(int shard, int shards, long games) {
+    List<String> command = new ArrayList<>();
+
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(WORKER_OPTIONS);
+    if (System.getProperty("hangman.alphabet") != null) {
+      command.add("-Dhangman.alphabet=" + System.getProperty("hangman.alphabet"));
+    }
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(ShardWorker.class.getName());
+    command.add(this.wordList.toString());
+    command.add(Integer.toString(shard));
+    command.add(Integer.toString(shards));
+    command.add(Long.toString(games));
+    command.add(Integer.toString(this.maxGuesses));
+    command.add(this.guesser);
+
+    return command;
+  }
+
+  /**
+   * Runs a sharded simulation from the command line.
+   *
+   * @param args Command-line arguments:
+   *     {@code <word-list> [games] [maxGuesses] [frequency|solver] [workers]}.
+   *     By default, one worker is launched per processor.
+   * @throws IOException if the word list cannot be read.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println(
+          "Usage: ShardCoordinator <word-list> [games] [maxGuesses] [frequency|solver] [workers]"
+      );
+      System.exit(2);
+    }
+
+    Path wordList = Path.of(args[0]);
+    long games = args.length > 1
+        ? Long.parseLong(args[1])
+        : BatchRunner.readWords(wordList).size();
+    int maxGuesses = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+    String guesser = args.length > 3 ? args[3] : "frequency";
+    int workers = args.length > 4
+        ? Integer.parseInt(args[4])
+        : Runtime.getRuntime().availableProcessors();
+
+    ShardCoordinator coordinator = new ShardCoordinator(
+        wordList, maxGuesses, guesser, workers, DEFAULT_TIMEOUT
+    );
+    long start = System.nanoTime();
+    ShardStats stats = coordinator.run(games);
+    long elapsed = System.nanoTime() - start;
+
+    System.out.println(stats.toBatchResult(elapsed));
+    System.out.println(stats);
+    coordinator.getFailures().forEach(failure -> System.err.println("Failed " + failure));
+
+    if (!coordinator.getFailures().isEmpty()) {
+      System.exit(1);
+    }
+  }
+}
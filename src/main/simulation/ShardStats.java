@@ -0,0 +1,181 @@
+package main.simulation;
+
+import java.util.concurrent.TimeUnit;
+import main.hangman.Round;
+import main.metrics.Histogram;
+
+/**
+ * Statistics of rounds played by the shards of a {@link ShardCoordinator
+ * sharded simulation}: win rate, distribution of the amount of guesses per
+ * round and distribution of the time a round took.
+ *
+ * <p>Statistics are exchanged between processes as single lines of text, so
+ * that a {@link ShardWorker worker} can stream them over its {@code stdout}
+ * while it plays, and the coordinator can {@link #add(ShardStats) merge}
+ * them as they arrive. A line starts with {@link #PREFIX}, followed by the
+ * amounts of rounds, wins, wrong guesses and guesses and both histograms
+ * {@link Histogram#encode() encoded}, separated by blanks. Instances are
+ * thread-safe.
+ *
+ * @author Neufeld-Martin
+ */
+public class ShardStats {
+  /** First token of a line holding statistics. */
+  public static final String PREFIX = "R";
+
+  /** Amount of rounds played. */
+  private long games;
+
+  /** Amount of rounds won by the guesser. */
+  private long wins;
+
+  /** Total amount of wrong guesses over all rounds. */
+  private long wrongGuesses;
+
+  /** Total amount of guesses over all rounds. */
+  private long guesses;
+
+  /** Amount of guesses per round. */
+  private final Histogram guessCounts = new Histogram();
+
+  /** Time each round took in nanoseconds. */
+  private final Histogram latencies = new Histogram();
+
+  /**
+   * Records a finished round.
+   *
+   * @param round The round.
+   * @param nanos Time the round took in nanoseconds.
+   */
+  public synchronized void record(Round round, long nanos) {
+    long roundGuesses = round.getGuessedCharCount() + round.getGuessedWordCount();
+
+    this.games++;
+    if (round.isWon()) {
+      this.wins++;
+    }
+    this.wrongGuesses += round.getWrongGuesses();
+    this.guesses += roundGuesses;
+    this.guessCounts.record(roundGuesses);
+    this.latencies.record(nanos);
+  }
+
+  /**
+   * Adds the rounds of other statistics, e.g. of another shard.
+   *
+   * @param other The other statistics.
+   */
+  public void add(ShardStats other) {
+    long[] totals;
+
+    synchronized (other) {
+      totals = new long[] {other.games, other.wins, other.wrongGuesses, other.guesses};
+    }
+
+    synchronized (this) {
+      this.games += totals[0];
+      this.wins += totals[1];
+      this.wrongGuesses += totals[2];
+      this.guesses += totals[3];
+      this.guessCounts.add(other.guessCounts);
+      this.latencies.add(other.latencies);
+    }
+  }
+
+  /** Discards all recorded rounds. */
+  public synchronized void reset() {
+    this.games = 0;
+    this.wins = 0;
+    this.wrongGuesses = 0;
+    this.guesses = 0;
+    this.guessCounts.reset();
+    this.latencies.reset();
+  }
+
+  /** Returns the {@link #games amount of rounds played}. */
+  public synchronized long getGames() {
+    return this.games;
+  }
+
+  /** Returns the {@link #guessCounts amount of guesses per round}. */
+  public Histogram getGuessCounts() {
+    return this.guessCounts;
+  }
+
+  /** Returns the {@link #latencies time each round took}. */
+  public Histogram getLatencies() {
+    return this.latencies;
+  }
+
+  /**
+   * Summarizes the rounds.
+   *
+   * @param elapsedNanos Wall-clock time playing the rounds took in
+   *     nanoseconds.
+   * @return The summary.
+   */
+  public synchronized BatchResult toBatchResult(long elapsedNanos) {
+    return new BatchResult(this.games, this.wins, this.wrongGuesses, this.guesses, elapsedNanos);
+  }
+
+  /**
+   * Encodes the statistics as a single line, see {@link ShardStats}.
+   *
+   * @return The line, without line terminator.
+   */
+  public synchronized String toLine() {
+    return String.join(" ",
+        PREFIX,
+        Long.toString(this.games),
+        Long.toString(this.wins),
+        Long.toString(this.wrongGuesses),
+        Long.toString(this.guesses),
+        this.guessCounts.encode(),
+        this.latencies.encode()
+    );
+  }
+
+  /**
+   * Decodes statistics encoded by {@link #toLine()}.
+   *
+   * @param line The line.
+   * @return The statistics.
+   * @throws IllegalArgumentException if the line is malformed.
+   */
+  public static ShardStats parse(String line) {
+    String[] tokens = line.trim().split(" ");
+
+    if (tokens.length != 7 || !tokens[0].equals(PREFIX)) {
+      throw new IllegalArgumentException("Malformed statistics: " + line);
+    }
+
+    ShardStats stats = new ShardStats();
+    stats.games = Long.parseLong(tokens[1]);
+    stats.wins = Long.parseLong(tokens[2]);
+    stats.wrongGuesses = Long.parseLong(tokens[3]);
+    stats.guesses = Long.parseLong(tokens[4]);
+    stats.guessCounts.add(Histogram.decode(tokens[5]));
+    stats.latencies.add(Histogram.decode(tokens[6]));
+    return stats;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "guessesPerRound: p50=%d, p90=%d, p99=%d, max=%d; "
+            + "roundLatency: p50=%.1fus, p99=%.1fus, max=%.1fus",
+        this.guessCounts.getValueAtQuantile(0.5),
+        this.guessCounts.getValueAtQuantile(0.9),
+        this.guessCounts.getValueAtQuantile(0.99),
+        this.guessCounts.getMax(),
+        micros(this.latencies.getValueAtQuantile(0.5)),
+        micros(this.latencies.getValueAtQuantile(0.99)),
+        micros(this.latencies.getMax())
+    );
+  }
+
+  /** Converts nanoseconds to microseconds. */
+  private static double micros(long nanos) {
+    return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+  }
+}
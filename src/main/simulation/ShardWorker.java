@@ -0,0 +1,121 @@
+package main.simulation;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import main.hangman.Round;
+
+/**
+ * Worker process of a {@link ShardCoordinator sharded simulation}. Plays
+ * rounds with the words of one shard of a word list and streams their
+ * {@link ShardStats statistics} over {@code stdout}.
+ *
+ * <p>Statistics of the rounds played since the previous line are written at
+ * most every {@link #REPORT_INTERVAL} nanoseconds, so that the output stays
+ * small no matter how many rounds are played, and results of a worker that
+ * fails midway are not lost. The last line is {@link #DONE} followed by the
+ * amount of rounds played.
+ *
+ * @author Neufeld-Martin
+ */
+public class ShardWorker {
+  /** First token of the line marking the end of the output. */
+  public static final String DONE = "DONE";
+
+  /** Minimum time between two lines of statistics in nanoseconds. */
+  private static final long REPORT_INTERVAL = TimeUnit.MILLISECONDS.toNanos(500);
+
+  /**
+   * Returns the words of a shard, a contiguous range of the word list.
+   *
+   * @param words The words of the word list.
+   * @param shard Index of the shard.
+   * @param shards Amount of shards.
+   * @return The words of the shard.
+   */
+  public static List<String> shardOf(List<String> words, int shard, int shards) {
+    return words.subList(
+        (int) ((long) words.size() * shard / shards),
+        (int) ((long) words.size() * (shard + 1) / shards)
+    );
+  }
+
+  /**
+   * Returns the amount of rounds a shard plays, so that the rounds of all
+   * shards add up to the given amount.
+   *
+   * @param games Amount of rounds of all shards.
+   * @param shard Index of the shard.
+   * @param shards Amount of shards.
+   * @return The amount of rounds of the shard.
+   */
+  public static long gamesOf(long games, int shard, int shards) {
+    return games / shards + (shard < games % shards ? 1 : 0);
+  }
+
+  /**
+   * Plays rounds and streams their statistics.
+   *
+   * @param runner Plays the rounds.
+   * @param words The words to guess. Rounds cycle through them in order.
+   * @param games Amount of rounds to play.
+   * @param out Stream to write the statistics to.
+   */
+  static void play(BatchRunner runner, List<String> words, long games, PrintStream out) {
+    ShardStats stats = new ShardStats();
+    long lastReport = System.nanoTime();
+
+    for (long i = 0; i < games; i++) {
+      long start = System.nanoTime();
+      Round round = runner.play(words.get((int) (i % words.size())));
+      long end = System.nanoTime();
+
+      stats.record(round, end - start);
+
+      if (end - lastReport >= REPORT_INTERVAL) {
+        out.println(stats.toLine());
+        out.flush();
+        stats.reset();
+        lastReport = end;
+      }
+    }
+
+    out.println(stats.toLine());
+    out.println(DONE + " " + games);
+    out.flush();
+  }
+
+  /**
+   * Runs a worker from the command line.
+   *
+   * @param args Command-line arguments:
+   *     {@code <word-list> <shard> <shards> <games> <maxGuesses> <frequency|solver>}.
+   * @throws IOException if the word list cannot be read.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 6) {
+      System.err.println(
+          "Usage: ShardWorker <word-list> <shard> <shards> <games> <maxGuesses> <frequency|solver>"
+      );
+      System.exit(2);
+    }
+
+    Path wordList = Path.of(args[0]);
+    int shard = Integer.parseInt(args[1]);
+    int shards = Integer.parseInt(args[2]);
+    List<String> words = shardOf(BatchRunner.readWords(wordList), shard, shards);
+    BatchRunner runner = new BatchRunner(
+        words, BatchRunner.createGuesser(args[5], wordList), Integer.parseInt(args[4])
+    );
+
+    PrintStream out = new PrintStream(
+        new FileOutputStream(FileDescriptor.out), false, StandardCharsets.UTF_8
+    );
+    play(runner, words, Long.parseLong(args[3]), out);
+  }
+}
@@ -0,0 +1,172 @@
+package main.simulation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import main.metrics.Metrics;
+import main.words.Dictionary;
+import main.words.SolveRates;
+
+/**
+ * Measures the {@link SolveRates solve rates} of words by letting a guesser
+ * play each word a number of times.
+ *
+ * <p>Scoring a dictionary runs in parallel on the common fork/join pool, with
+ * one guesser per thread. It is incremental: words whose rate is already
+ * known are not played again, so that adding words to a word list only
+ * scores the new words.
+ *
+ * @author Neufeld-Martin
+ */
+public class WordScorer {
+  /** Amount of simulated rounds per word, if not specified otherwise. */
+  public static final int DEFAULT_TRIALS = 16;
+
+  /** Probability of a random guess of the default guesser, see {@link NoisyGuesser}. */
+  public static final double DEFAULT_NOISE = 0.3;
+
+  /** Amount of words played by all scorers. */
+  private static final LongAdder SCORED = Metrics.counter("words.scored");
+
+  /** Creates a guesser for each thread. */
+  private final Supplier<Guesser> guessers;
+
+  /** Maximum amount of wrong guesses of the simulated rounds. */
+  private final int maxGuesses;
+
+  /** Amount of simulated rounds per word. */
+  private final int trials;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param guessers creates a {@link #guessers guesser for each thread}.
+   *     Guessers must make random choices for the rate to be other than
+   *     {@code 0} or {@link SolveRates#MAX_RATE}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @param trials the {@link #trials amount of simulated rounds per word}.
+   */
+  public WordScorer(Supplier<Guesser> guessers, int maxGuesses, int trials) {
+    this.guessers = guessers;
+    this.maxGuesses = maxGuesses;
+    this.trials = Math.max(1, trials);
+  }
+
+  /**
+   * Constructs an instance of this class playing {@link #DEFAULT_TRIALS}
+   * rounds per word with a {@link FrequencyGuesser} that guesses randomly
+   * with a probability of {@link #DEFAULT_NOISE}.
+   *
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   */
+  public WordScorer(int maxGuesses) {
+    this(() -> new NoisyGuesser(new FrequencyGuesser(), DEFAULT_NOISE), maxGuesses, DEFAULT_TRIALS);
+  }
+
+  /**
+   * Measures the rate of a word.
+   *
+   * @param word The word in upper case.
+   * @param guesser The guesser playing the word.
+   * @return The rate from {@code 0} to {@link SolveRates#MAX_RATE}.
+   */
+  public int rate(String word, Guesser guesser) {
+    int wins = 0;
+
+    for (int i = 0; i < this.trials; i++) {
+      if (BatchRunner.play(word, guesser, this.maxGuesses).isWon()) {
+        wins++;
+      }
+    }
+
+    SCORED.increment();
+    return (wins * SolveRates.MAX_RATE + this.trials / 2) / this.trials;
+  }
+
+  /**
+   * Measures the rates of all words of a dictionary. Rates known from
+   * previous measurements with the same parameters are reused; rates of
+   * words no longer in the dictionary are dropped.
+   *
+   * @param dictionary The dictionary.
+   * @param previous Previously measured rates.
+   * @return The rates of all words of the dictionary.
+   */
+  public SolveRates score(Dictionary dictionary, SolveRates previous) {
+    SolveRates known = previous.getMaxGuesses() == this.maxGuesses
+        && previous.getTrials() == this.trials
+        ? previous
+        : SolveRates.empty(this.maxGuesses, this.trials);
+
+    long[] keysById = new long[dictionary.size()];
+    IntStream.range(0, keysById.length)
+        .parallel()
+        .forEach(id -> keysById[id] = SolveRates.keyOf(dictionary, id));
+
+    long[] keys = keysById.clone();
+    Arrays.parallelSort(keys);
+    int size = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (i == 0 || keys[i] != keys[size - 1]) {
+        keys[size++] = keys[i];
+      }
+    }
+    long[] uniqueKeys = Arrays.copyOf(keys, size);
+
+    byte[] rates = new byte[size];
+    ThreadLocal<Guesser> guesser = ThreadLocal.withInitial(this.guessers);
+
+    IntStream.range(0, keysById.length).parallel().forEach(id -> {
+      int index = Arrays.binarySearch(uniqueKeys, keysById[id]);
+      int rate = known.rateOf(keysById[id]);
+
+      rates[index] = (byte) (rate >= 0 ? rate : rate(dictionary.word(id), guesser.get()));
+    });
+
+    return SolveRates.of(this.maxGuesses, this.trials, uniqueKeys, rates);
+  }
+
+  /**
+   * Measures the rates of all words of a word list, reusing and updating the
+   * rates file next to it.
+   *
+   * @param wordList The word list.
+   * @param dictionary The dictionary of the word list.
+   * @return The rates of all words of the dictionary.
+   * @throws IOException if the rates file cannot be read or written.
+   */
+  public SolveRates update(Path wordList, Dictionary dictionary) throws IOException {
+    SolveRates previous = SolveRates.open(wordList, this.maxGuesses, this.trials);
+    SolveRates rates = score(dictionary, previous);
+
+    if (!sameWords(rates, previous)) {
+      rates.write(wordList);
+    }
+
+    return rates;
+  }
+
+  /**
+   * Returns {@code true} if two rates are of the same words, {@code false}
+   * otherwise.
+   *
+   * @param rates The rates.
+   * @param other The other rates.
+   */
+  private static boolean sameWords(SolveRates rates, SolveRates other) {
+    if (rates.size() != other.size()) {
+      return false;
+    }
+
+    for (int i = 0; i < rates.size(); i++) {
+      if (rates.keyAt(i) != other.keyAt(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
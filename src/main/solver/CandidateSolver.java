@@ -0,0 +1,352 @@
+package main.solver;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import main.hangman.Alphabet;
+import main.hangman.Round;
+import main.simulation.FrequencyGuesser;
+import main.simulation.Guess;
+import main.simulation.Guesser;
+import main.words.Dictionary;
+import main.words.Difficulty;
+
+/**
+ * Guesser that keeps track of all dictionary words consistent with the state
+ * of a round and guesses the letter that splits these candidates most
+ * evenly, i.e. whose answer carries the most information. Once a single
+ * candidate is left, it is guessed as a word.
+ *
+ * <p>Candidates are kept as a bitset over the dictionary words of the length
+ * of the word to guess. Filtering and letter counting run in parallel on the
+ * common fork/join pool for large candidate sets.
+ *
+ * <p>Instances keep state about the round they played last and are therefore
+ * not thread-safe; use one instance per thread.
+ *
+ * @author Neufeld-Martin
+ */
+public class CandidateSolver implements Guesser {
+  /** Guesser of the letter to guess if no candidate is left. Stateless. */
+  private static final FrequencyGuesser FALLBACK = new FrequencyGuesser();
+
+  /** Minimum amount of bitset words for which work is split across threads. */
+  private static final int PARALLEL_THRESHOLD = 1 << 10;
+
+  /** The dictionary candidates are taken from. */
+  private final Dictionary dictionary;
+
+  /** The round the candidates belong to. */
+  private Round round;
+
+  /** The {@link Round#getGeneration() generation} of the round the candidates belong to. */
+  private int generation;
+
+  /**
+   * First id of each contiguous range of dictionary words with the length of
+   * the word to guess, one range per {@link Difficulty}.
+   */
+  private final int[] rangeStarts = new int[Difficulty.values().length];
+
+  /** Index of the first candidate of each range within the bitset. */
+  private final int[] rangeOffsets = new int[Difficulty.values().length + 1];
+
+  /** The candidates; bit {@code i} represents the {@code i}-th word of the ranges. */
+  private long[] candidates;
+
+  /** Wrongly guessed letters whose words were already removed from the candidates, as a bitmask. */
+  private int eliminatedLetters;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param dictionary the {@link #dictionary dictionary candidates are taken from}.
+   */
+  public CandidateSolver(Dictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  @Override
+  public Guess nextGuess(Round round) {
+    if (round != this.round || round.getGeneration() != this.generation) {
+      reset(round);
+    }
+
+    filter(round);
+
+    int count = count();
+    if (count == 1) {
+      return Guess.ofWord(this.dictionary.word(idOf(nextCandidate(0))));
+    }
+
+    return Guess.ofChar(count == 0 ? fallbackLetter(round) : bestLetter(round, count));
+  }
+
+  /**
+   * Returns the amount of dictionary words consistent with the state of a
+   * round.
+   *
+   * @param round The round.
+   */
+  public int countCandidates(Round round) {
+    if (round != this.round || round.getGeneration() != this.generation) {
+      reset(round);
+    }
+
+    filter(round);
+    return count();
+  }
+
+  /**
+   * Starts tracking a new round. All words of the length of the word to guess
+   * become candidates.
+   *
+   * @param round The round.
+   * @throws IllegalArgumentException if the alphabet of the round does not
+   *     start with the letters A-Z the dictionary consists of.
+   */
+  private void reset(Round round) {
+    if (!Alphabet.LATIN.isPrefixOf(round.getAlphabet())) {
+      throw new IllegalArgumentException("Unsupported alphabet: " + round.getAlphabet());
+    }
+
+    int length = round.getWordToGuess().length();
+    Difficulty[] difficulties = Difficulty.values();
+
+    for (int i = 0; i < difficulties.length; i++) {
+      this.rangeStarts[i] = this.dictionary.firstId(difficulties[i], length);
+      int size = this.dictionary.endId(difficulties[i], length) - this.rangeStarts[i];
+      this.rangeOffsets[i + 1] = this.rangeOffsets[i] + size;
+    }
+
+    int size = this.rangeOffsets[difficulties.length];
+    this.candidates = new long[(size + 63) >>> 6];
+
+    for (int i = 0; i < size >>> 6; i++) {
+      this.candidates[i] = -1L;
+    }
+    if ((size & 63) != 0) {
+      this.candidates[size >>> 6] = (1L << (size & 63)) - 1;
+    }
+
+    this.eliminatedLetters = 0;
+    this.round = round;
+    this.generation = round.getGeneration();
+  }
+
+  /**
+   * Removes all candidates that contradict the state of the round. Words
+   * containing a newly wrong letter are looked up in the {@link
+   * Dictionary#nextIdWithAnyLetter(int, int, int) letter index} first, so
+   * that only the remaining candidates are checked one by one.
+   *
+   * @param round The round.
+   */
+  private void filter(Round round) {
+    char[] status = round.getGuessStatus().toCharArray();
+    int guessedLetters = (int) round.getGuessedLetterMask();
+    int wrongLetters = (int) round.getWrongLetterMask();
+    List<String> guessedWords = round.getGuessedWordsReadOnly();
+
+    eliminate(wrongLetters & ~this.eliminatedLetters);
+    this.eliminatedLetters |= wrongLetters;
+
+    range(this.candidates.length).forEach(i -> {
+      long bits = this.candidates[i];
+
+      for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+        int candidate = (i << 6) + Long.numberOfTrailingZeros(remaining);
+
+        if (!isConsistent(idOf(candidate), status, guessedLetters, wrongLetters, guessedWords)) {
+          bits &= ~Long.lowestOneBit(remaining);
+        }
+      }
+
+      this.candidates[i] = bits;
+    });
+  }
+
+  /**
+   * Removes all candidates containing any of a set of letters.
+   *
+   * @param letterMask The letters as a bitmask.
+   */
+  private void eliminate(int letterMask) {
+    if (letterMask == 0) {
+      return;
+    }
+
+    for (int range = 0; range < this.rangeStarts.length; range++) {
+      int start = this.rangeStarts[range];
+      int end = start + this.rangeOffsets[range + 1] - this.rangeOffsets[range];
+
+      for (
+          int id = this.dictionary.nextIdWithAnyLetter(letterMask, start, end);
+          id < end;
+          id = this.dictionary.nextIdWithAnyLetter(letterMask, id + 1, end)
+      ) {
+        int candidate = this.rangeOffsets[range] + id - start;
+        this.candidates[candidate >>> 6] &= ~(1L << candidate);
+      }
+    }
+  }
+
+  /**
+   * Checks whether a dictionary word can still be the word to guess.
+   *
+   * @param id Id of the word.
+   * @param status The guess status.
+   * @param guessedLetters The guessed letters as a bitmask.
+   * @param wrongLetters The wrongly guessed letters as a bitmask.
+   * @param guessedWords The guessed words.
+   * @return {@code true} if the word is consistent with all guesses.
+   */
+  private boolean isConsistent(
+      int id, char[] status, int guessedLetters, int wrongLetters, List<String> guessedWords
+  ) {
+    if ((this.dictionary.letterMask(id) & wrongLetters) != 0) {
+      return false;
+    }
+
+    for (int i = 0; i < status.length; i++) {
+      char chr = this.dictionary.charAt(id, i);
+
+      if (status[i] == '_' ? (guessedLetters & (1 << (chr - 'A'))) != 0 : status[i] != chr) {
+        return false;
+      }
+    }
+
+    for (String guessedWord : guessedWords) {
+      if (isWord(id, guessedWord)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /** Returns {@code true} if a dictionary word equals the given word. */
+  private boolean isWord(int id, String word) {
+    for (int i = 0; i < word.length(); i++) {
+      if (this.dictionary.charAt(id, i) != word.charAt(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /** Returns the amount of candidates. */
+  private int count() {
+    return range(this.candidates.length).map(i -> Long.bitCount(this.candidates[i])).sum();
+  }
+
+  /**
+   * Returns the unguessed letter whose presence splits the candidates most
+   * evenly, maximising the expected information of its answer.
+   *
+   * @param round The round.
+   * @param count The amount of candidates.
+   */
+  private char bestLetter(Round round, int count) {
+    int[] letterCounts = range(this.candidates.length).collect(
+        () -> new int[26],
+        (counts, i) -> {
+          for (long bits = this.candidates[i]; bits != 0; bits &= bits - 1) {
+            int mask = this.dictionary.letterMask(
+                idOf((i << 6) + Long.numberOfTrailingZeros(bits))
+            );
+
+            for (; mask != 0; mask &= mask - 1) {
+              counts[Integer.numberOfTrailingZeros(mask)]++;
+            }
+          }
+        },
+        (counts, others) -> {
+          for (int letter = 0; letter < 26; letter++) {
+            counts[letter] += others[letter];
+          }
+        }
+    );
+
+    int guessedLetters = (int) round.getGuessedLetterMask();
+    int best = -1;
+    double bestEntropy = -1;
+
+    for (int letter = 0; letter < 26; letter++) {
+      if ((guessedLetters & (1 << letter)) != 0 || letterCounts[letter] == 0) {
+        continue;
+      }
+
+      double entropy = entropy((double) letterCounts[letter] / count);
+
+      if (entropy > bestEntropy) {
+        best = letter;
+        bestEntropy = entropy;
+      }
+    }
+
+    return best < 0 ? fallbackLetter(round) : (char) ('A' + best);
+  }
+
+  /** Returns the binary entropy of a probability. */
+  private static double entropy(double probability) {
+    if (probability <= 0 || probability >= 1) {
+      return 0;
+    }
+
+    return -probability * Math.log(probability) - (1 - probability) * Math.log(1 - probability);
+  }
+
+  /**
+   * Returns the most frequent unguessed letter, see {@link FrequencyGuesser}.
+   * Used if the word to guess is not in the dictionary.
+   *
+   * @param round The round.
+   */
+  private static char fallbackLetter(Round round) {
+    return FALLBACK.nextGuess(round).getChar();
+  }
+
+  /**
+   * Returns the index of the first candidate at or after an index.
+   *
+   * @param from The index to start at.
+   * @return The index, or {@code -1} if there is none.
+   */
+  private int nextCandidate(int from) {
+    for (int i = from >>> 6; i < this.candidates.length; i++) {
+      long bits = i == from >>> 6 ? this.candidates[i] & (-1L << (from & 63)) : this.candidates[i];
+
+      if (bits != 0) {
+        return (i << 6) + Long.numberOfTrailingZeros(bits);
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the dictionary id of a candidate.
+   *
+   * @param candidate Index of the candidate within the bitset.
+   */
+  private int idOf(int candidate) {
+    int range = 0;
+    while (candidate >= this.rangeOffsets[range + 1]) {
+      range++;
+    }
+
+    return this.rangeStarts[range] + candidate - this.rangeOffsets[range];
+  }
+
+  /**
+   * Returns a stream over bitset word indexes, parallel if the bitset is
+   * large.
+   *
+   * @param length Amount of bitset words.
+   */
+  private static IntStream range(int length) {
+    IntStream range = IntStream.range(0, length);
+    return length >= PARALLEL_THRESHOLD ? range.parallel() : range;
+  }
+}
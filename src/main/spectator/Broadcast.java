@@ -0,0 +1,114 @@
+package main.spectator;
+
+import java.util.concurrent.atomic.LongAdder;
+import main.hangman.Game;
+import main.hangman.GameListener;
+import main.metrics.Metrics;
+
+/**
+ * Publishes the screen of a game to spectators. Attached to a game as a
+ * {@link GameListener}, it renders the screen once after every state change
+ * and publishes it to a {@link FrameRing}, from which each spectator reads
+ * through its own {@link Subscription}.
+ *
+ * <p>All work is done on the thread playing the game and costs one render
+ * per guess, regardless of the amount of spectators; the game never waits
+ * for a spectator.
+ *
+ * @author Neufeld-Martin
+ */
+public class Broadcast implements GameListener, AutoCloseable {
+  /** Amount of frames kept for spectators, if not specified otherwise. */
+  public static final int DEFAULT_CAPACITY = 16;
+
+  /** Amount of frames published by all broadcasts. */
+  private static final LongAdder FRAMES = Metrics.counter("spectator.frames");
+
+  /** The published frames. */
+  private final FrameRing ring;
+
+  /** The renderer of the game, or {@code null} if the game did not start yet. */
+  private FrameRenderer renderer;
+
+  /** Whether the last frame was published. */
+  private volatile boolean finished;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param capacity Amount of frames kept for spectators, see {@link
+   *     FrameRing#FrameRing(int)}.
+   */
+  public Broadcast(int capacity) {
+    this.ring = new FrameRing(capacity);
+  }
+
+  /** Constructs an instance of this class keeping {@link #DEFAULT_CAPACITY} frames. */
+  public Broadcast() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Subscribes a spectator. The spectator starts with the latest frame, if
+   * any.
+   *
+   * @return The subscription.
+   */
+  public Subscription subscribe() {
+    return new Subscription(this.ring);
+  }
+
+  /** Returns whether the last frame of the game was published. */
+  public boolean isFinished() {
+    return this.finished;
+  }
+
+  @Override
+  public void gameStarted(Game game) {
+    this.renderer = new FrameRenderer(game);
+    publish(null);
+  }
+
+  @Override
+  public void charGuessed(Game game, char guessedChar, boolean correct) {
+    publish(null);
+  }
+
+  @Override
+  public void wordGuessed(Game game, String guessedWord, boolean correct) {
+    publish(null);
+  }
+
+  @Override
+  public void gameEnded(Game game, boolean won) {
+    publish(won);
+  }
+
+  /**
+   * Renders and publishes the current screen.
+   *
+   * @param won Whether the game was won, or {@code null} if it is not over.
+   */
+  private void publish(Boolean won) {
+    if (this.renderer == null || this.finished) {
+      return;
+    }
+
+    this.ring.publish(this.renderer.render(won), won != null);
+    this.finished = won != null;
+    FRAMES.increment();
+  }
+
+  /**
+   * Ends the broadcast. If the game did not end, a last frame is published
+   * so that spectators stop waiting. Must be called by the thread playing
+   * the game.
+   */
+  @Override
+  public void close() {
+    if (!this.finished) {
+      this.ring.publish(new byte[0], true);
+      this.finished = true;
+    }
+  }
+}
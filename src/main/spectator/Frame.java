@@ -0,0 +1,51 @@
+package main.spectator;
+
+/**
+ * The rendered screen of a game after a state change, as shown to
+ * spectators. A frame repaints the whole screen, so that showing the latest
+ * frame is enough to catch up with the game. Frames are immutable and shared
+ * by all spectators.
+ *
+ * @author Neufeld-Martin
+ */
+public final class Frame {
+  /** Sequence number of the frame within its game, starting at 0. */
+  private final long seq;
+
+  /** The terminal output drawing the screen, encoded in UTF-8. */
+  private final byte[] content;
+
+  /** Whether this is the last frame of the game. */
+  private final boolean last;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param seq the {@link #seq sequence number of the frame}.
+   * @param content the {@link #content terminal output drawing the screen}.
+   * @param last whether this is the {@link #last last frame of the game}.
+   */
+  Frame(long seq, byte[] content, boolean last) {
+    this.seq = seq;
+    this.content = content;
+    this.last = last;
+  }
+
+  /** Returns the {@link #seq sequence number of the frame}. */
+  public long getSeq() {
+    return this.seq;
+  }
+
+  /**
+   * Returns the {@link #content terminal output drawing the screen}. The
+   * array is shared and must not be modified.
+   */
+  public byte[] getContent() {
+    return this.content;
+  }
+
+  /** Returns whether this is the {@link #last last frame of the game}. */
+  public boolean isLast() {
+    return this.last;
+  }
+}
@@ -0,0 +1,56 @@
+package main.spectator;
+
+import java.nio.charset.StandardCharsets;
+import main.hangman.Game;
+import main.hangman.Printer;
+import main.io.MemoryPort;
+
+/**
+ * Renders the screen of a game into frame content, using a {@link Printer}
+ * that draws into memory instead of onto the player's terminal.
+ *
+ * @author Neufeld-Martin
+ */
+class FrameRenderer {
+  /** The port collecting the output of the {@link #printer printer}. */
+  private final MemoryPort capture = new MemoryPort("");
+
+  /** The game rendered. */
+  private final Game game;
+
+  /** The printer drawing the game into the {@link #capture capture}. */
+  private final Printer printer;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param game the {@link #game game rendered}.
+   */
+  FrameRenderer(Game game) {
+    this.game = game;
+    this.printer = new Printer(game, this.capture);
+  }
+
+  /**
+   * Renders the whole screen of the game.
+   *
+   * @param won Whether the game was won, or {@code null} if it is not over.
+   * @return The terminal output drawing the screen, encoded in UTF-8.
+   */
+  byte[] render(Boolean won) {
+    this.capture.resetOutput();
+    this.printer.initializeScreen();
+
+    if (won != null) {
+      this.printer.printSeparator();
+      this.capture.out().printf(
+          "%s The word to guess was: %s%n",
+          won ? "The guesser won." : "The guesser lost.",
+          this.game.getWordToGuess()
+      );
+    }
+
+    this.capture.flush();
+    return this.capture.getOutput().getBytes(StandardCharsets.UTF_8);
+  }
+}
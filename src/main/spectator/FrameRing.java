@@ -0,0 +1,80 @@
+package main.spectator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer of the frames of a game, written by the
+ * thread playing the game and read by any number of spectators.
+ *
+ * <p>Publishing a frame stores it in a slot and then advances the published
+ * count; it never waits for readers, so a slow spectator cannot slow down the
+ * game. Instead, the oldest frames are overwritten. Readers detect an
+ * overwritten slot by the sequence number of the frame it holds, see {@link
+ * Subscription}.
+ *
+ * @author Neufeld-Martin
+ */
+public class FrameRing {
+  /** The slots; frame {@code seq} is stored in slot {@code seq & mask}. */
+  private final AtomicReferenceArray<Frame> slots;
+
+  /** Mask selecting the slot of a sequence number. */
+  private final int mask;
+
+  /** Amount of published frames. Written by the publishing thread only. */
+  private volatile long published;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param capacity Minimum amount of frames kept; rounded up to a power of
+   *     two.
+   */
+  public FrameRing(int capacity) {
+    int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /** Returns the amount of frames kept. */
+  public int capacity() {
+    return this.mask + 1;
+  }
+
+  /**
+   * Publishes a frame. Must be called by a single thread only.
+   *
+   * @param content The terminal output drawing the screen.
+   * @param last Whether this is the last frame of the game.
+   * @return The frame.
+   */
+  public Frame publish(byte[] content, boolean last) {
+    long seq = this.published;
+    Frame frame = new Frame(seq, content, last);
+
+    this.slots.set((int) seq & this.mask, frame);
+    this.published = seq + 1;
+    return frame;
+  }
+
+  /** Returns the amount of published frames. */
+  public long getPublished() {
+    return this.published;
+  }
+
+  /**
+   * Returns a published frame.
+   *
+   * @param seq Sequence number of the frame.
+   * @return The frame, or {@code null} if it is not published yet or was
+   *     overwritten.
+   */
+  public Frame get(long seq) {
+    if (seq < 0 || seq >= this.published) {
+      return null;
+    }
+
+    Frame frame = this.slots.get((int) seq & this.mask);
+    return frame != null && frame.getSeq() == seq ? frame : null;
+  }
+}
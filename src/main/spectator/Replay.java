@@ -0,0 +1,58 @@
+package main.spectator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import main.hangman.Game;
+import main.hangman.Round;
+import main.io.MemoryPort;
+import main.persistence.GameEvent;
+import main.persistence.GameJournal;
+import main.persistence.GameSnapshot;
+
+/**
+ * Replays a game journaled by a {@link GameJournal} as the frames a
+ * spectator would have seen, rendered the same way as by a {@link
+ * Broadcast}.
+ *
+ * @author Neufeld-Martin
+ */
+public class Replay {
+  /**
+   * Renders the frames of a journaled game: one for the start and one for
+   * each guess. If the game is over, the last frame shows its outcome.
+   *
+   * @param directory The directory holding the journal.
+   * @param gameId Identifier of the game.
+   * @return The frames in order.
+   * @throws IOException if the snapshot or journal cannot be read.
+   * @throws IllegalArgumentException if the journal holds an invalid guess.
+   */
+  public static List<Frame> frames(Path directory, String gameId) throws IOException {
+    GameSnapshot snapshot = GameJournal.readSnapshot(directory, gameId);
+    List<GameEvent> events = GameJournal.readEvents(directory, gameId);
+
+    Round round = new Round(snapshot.getWord(), snapshot.getMaxGuesses());
+    FrameRenderer renderer = new FrameRenderer(new Game(new MemoryPort(""), round));
+    List<byte[]> contents = new ArrayList<>(events.size() + 1);
+
+    contents.add(renderer.render(null));
+
+    for (GameEvent event : events) {
+      if (round.isOver()) {
+        break;
+      }
+
+      event.applyTo(round);
+      contents.add(renderer.render(round.isOver() ? round.isWon() : null));
+    }
+
+    List<Frame> frames = new ArrayList<>(contents.size());
+    for (int i = 0; i < contents.size(); i++) {
+      frames.add(new Frame(i, contents.get(i), i == contents.size() - 1));
+    }
+
+    return frames;
+  }
+}
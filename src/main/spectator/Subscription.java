@@ -0,0 +1,99 @@
+package main.spectator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import main.metrics.Metrics;
+
+/**
+ * A spectator's position in the {@link FrameRing frames} of a game.
+ *
+ * <p>Frames are returned in order. A spectator that falls behind by more
+ * than the capacity of the ring skips the frames it missed and continues
+ * with the latest frame; as every frame repaints the whole screen, nothing
+ * but intermediate states is lost. Subscriptions are not thread-safe; use
+ * one per spectator.
+ *
+ * @author Neufeld-Martin
+ */
+public class Subscription {
+  /** Interval at which waiting spectators check for new frames in nanoseconds. */
+  private static final long POLL_INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+
+  /** Amount of frames skipped by all spectators. */
+  private static final LongAdder SKIPPED = Metrics.counter("spectator.skipped");
+
+  /** The frames of the game. */
+  private final FrameRing ring;
+
+  /** Sequence number of the next frame to return. */
+  private long cursor;
+
+  /**
+   * Constructs an instance of this class starting at the latest frame.
+   *
+   * @param ring the {@link #ring frames of the game}.
+   */
+  public Subscription(FrameRing ring) {
+    this.ring = ring;
+    this.cursor = Math.max(0, ring.getPublished() - 1);
+  }
+
+  /**
+   * Returns the next frame without waiting.
+   *
+   * @return The frame, or {@code null} if no frame was published since the
+   *     last one returned.
+   */
+  public Frame poll() {
+    while (true) {
+      long published = this.ring.getPublished();
+
+      if (this.cursor >= published) {
+        return null;
+      }
+
+      if (published - this.cursor > this.ring.capacity()) {
+        SKIPPED.add(published - 1 - this.cursor);
+        this.cursor = published - 1;
+      }
+
+      Frame frame = this.ring.get(this.cursor);
+
+      if (frame != null) {
+        this.cursor++;
+        return frame;
+      }
+
+      // Overwritten after reading the published count; catch up and retry.
+      SKIPPED.increment();
+      this.cursor++;
+    }
+  }
+
+  /**
+   * Returns the next frame, waiting for it to be published if necessary.
+   *
+   * @param timeout Maximum time to wait.
+   * @param unit Unit of the timeout.
+   * @return The frame, or {@code null} if none was published in time.
+   */
+  public Frame take(long timeout, TimeUnit unit) {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+    while (true) {
+      Frame frame = poll();
+
+      if (frame != null) {
+        return frame;
+      }
+
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+        return null;
+      }
+
+      LockSupport.parkNanos(Math.min(remaining, POLL_INTERVAL));
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package main.terminal;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays animation frames one after another without blocking the calling
+ * thread. Frames of one animator are executed in the order they were
+ * scheduled, each a fixed delay after the previous one. All animators share a
+ * single daemon scheduler thread.
+ *
+ * <p>With a delay of zero, frames are executed immediately on the calling
+ * thread, which is useful for scripted and benchmark runs, and for output
+ * that may block, e.g. to a network client that stops reading, which must
+ * not stall the frames of all other animators.
+ *
+ * @author Neufeld-Martin
+ */
+public class Animator {
+  /** Delay between two frames in milliseconds, if not configured otherwise. */
+  public static final long DEFAULT_DELAY = 300;
+
+  /** The scheduler executing the frames of all animators. */
+  private static ScheduledExecutorService scheduler;
+
+  /** Returns the {@link #scheduler scheduler}, creating it on first access. */
+  private static synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hangman-animator");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    return scheduler;
+  }
+
+  /** Delay between two frames in nanoseconds. */
+  private long delay;
+
+  /** Sets the {@link #delay delay between two frames}. */
+  private void setDelay(long delay) {
+    this.delay = delay;
+  }
+
+  /** Returns the {@link #delay delay between two frames}. */
+  private long getDelay() {
+    return this.delay;
+  }
+
+  /** Point in time the last scheduled frame is due, see {@link System#nanoTime()}. */
+  private long lastDue;
+
+  /** The last scheduled frame. */
+  private Future<?> lastFrame;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param delay The delay between two frames in milliseconds.
+   */
+  public Animator(long delay) {
+    setDelay(TimeUnit.MILLISECONDS.toNanos(delay));
+  }
+
+  /**
+   * Creates an animator whose delay is taken from the system property
+   * {@code hangman.animation.delay} (milliseconds), defaulting to
+   * {@link #DEFAULT_DELAY}.
+   *
+   * @return The animator.
+   */
+  public static Animator create() {
+    return new Animator(Long.getLong("hangman.animation.delay", DEFAULT_DELAY));
+  }
+
+  /**
+   * Schedules a frame. The frame is executed one delay after the previously
+   * scheduled frame, or after now if no frame is pending.
+   *
+   * @param frame The frame to execute.
+   */
+  public void schedule(Runnable frame) {
+    if (getDelay() == 0) {
+      frame.run();
+      return;
+    }
+
+    synchronized (this) {
+      long now = System.nanoTime();
+      long due = Math.max(now, this.lastDue) + getDelay();
+
+      this.lastDue = due;
+      this.lastFrame = getScheduler().schedule(frame, due - now, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Waits until all scheduled frames are executed. If the waiting thread is
+   * interrupted, pending frames keep playing and its interrupt status is set.
+   */
+  public void await() {
+    Future<?> frame;
+
+    synchronized (this) {
+      frame = this.lastFrame;
+    }
+
+    if (frame == null) {
+      return;
+    }
+
+    try {
+      frame.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      e.getCause().printStackTrace();
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package main.terminal;
+
+import java.io.PrintStream;
+
+/**
+ * Screen backend that writes ANSI escape sequences directly to an output
+ * stream. No process is spawned for any screen operation. The screen size is
+ * either fixed, e.g. for remote clients, or that of the terminal attached to
+ * this process as tracked by {@link TerminalGeometry}.
+ *
+ * @author Neufeld-Martin
+ */
+public class AnsiScreenBackend implements ScreenBackend {
+  /** Control Sequence Introducer. */
+  private static final String CSI = "\033[";
+
+  /** Sequence that moves the cursor home and clears the whole screen. */
+  private static final String CLEAR = CSI + "H" + CSI + "2J";
+
+  /** Sequence that clears the screen from the cursor to the end. */
+  private static final String CLEAR_TO_END = CSI + "J";
+
+  /** Sequence that saves the cursor position. */
+  private static final String SAVE_CURSOR = "\0337";
+
+  /** Sequence that restores the saved cursor position. */
+  private static final String RESTORE_CURSOR = "\0338";
+
+  /** The stream escape sequences are written to. */
+  private PrintStream out;
+
+  /** Sets the {@link #out stream escape sequences are written to}. */
+  private void setOut(PrintStream out) {
+    this.out = out;
+  }
+
+  /** Returns the {@link #out stream escape sequences are written to}. */
+  private PrintStream getOut() {
+    return this.out;
+  }
+
+  /** Fixed amount of lines visible on the screen, or {@code 0} to track the terminal. */
+  private int lines;
+
+  /** Sets the {@link #lines fixed amount of lines}. */
+  private void setLines(int lines) {
+    this.lines = lines;
+  }
+
+  /** Fixed amount of columns visible on the screen, or {@code 0} to track the terminal. */
+  private int columns;
+
+  /** Sets the {@link #columns fixed amount of columns}. */
+  private void setColumns(int columns) {
+    this.columns = columns;
+  }
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param out the {@link #out stream escape sequences are written to}.
+   * @param lines the {@link #lines amount of lines} of the screen, or
+   *     {@code 0} to track the terminal attached to this process.
+   * @param columns the {@link #columns amount of columns} of the screen, or
+   *     {@code 0} to track the terminal attached to this process.
+   */
+  public AnsiScreenBackend(PrintStream out, int lines, int columns) {
+    setOut(out);
+    setLines(lines);
+    setColumns(columns);
+  }
+
+  /**
+   * Creates a backend for the terminal attached to this process. Its size is
+   * tracked by {@link TerminalGeometry}, which determines it on first access
+   * only, so that drawing does not wait for a child process at startup.
+   *
+   * @param out The stream escape sequences are written to.
+   * @return The backend.
+   */
+  public static AnsiScreenBackend create(PrintStream out) {
+    return new AnsiScreenBackend(out, 0, 0);
+  }
+
+  /** Returns {@code true} if the size of the screen is fixed, {@code false} otherwise. */
+  private boolean isFixedSize() {
+    return this.lines > 0 && this.columns > 0;
+  }
+
+  @Override
+  public void setCursorPosition(int line, int column) {
+    getOut().print(CSI + (line + 1) + ";" + (column + 1) + "H");
+  }
+
+  @Override
+  public int getLines() {
+    return isFixedSize() ? this.lines : TerminalGeometry.getInstance().getLines();
+  }
+
+  @Override
+  public int getColumns() {
+    return isFixedSize() ? this.columns : TerminalGeometry.getInstance().getColumns();
+  }
+
+  @Override
+  public void addResizeListener(ResizeListener listener) {
+    if (!isFixedSize()) {
+      TerminalGeometry.getInstance().addListener(listener);
+    }
+  }
+
+  @Override
+  public void removeResizeListener(ResizeListener listener) {
+    if (!isFixedSize()) {
+      TerminalGeometry.getInstance().removeListener(listener);
+    }
+  }
+
+  @Override
+  public void saveCursorPosition() {
+    getOut().print(SAVE_CURSOR);
+  }
+
+  @Override
+  public void restoreCursorPosition() {
+    getOut().print(RESTORE_CURSOR);
+  }
+
+  @Override
+  public void clear() {
+    getOut().print(CLEAR);
+  }
+
+  @Override
+  public void clearFromCursorToEnd() {
+    getOut().print(CLEAR_TO_END);
+  }
+
+  @Override
+  public void flush() {
+    getOut().flush();
+  }
+}
@@ -4,19 +4,123 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import main.metrics.Metrics;
+import main.metrics.Timer;
 
 /**
  * Convenience class for executing bash commands.
- * 
+ *
+ * <p>Output of a child process is drained concurrently while the process
+ * runs, so processes writing more than the pipe buffer can hold do not
+ * block. Failures are reported through a {@link Result} rather than by
+ * terminating the program.
+ *
  * @author Neufeld-Martin
  */
 public class Bash {
+  /** Time after which a bash command is killed, if not specified otherwise. */
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+  /** Duration of running a child process, from start to exit. */
+  private static final Timer RUN_TIMER = Metrics.timer("bash.run");
+
+  /** Threads draining the output streams of child processes. */
+  private static final ExecutorService DRAINERS = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "bash-drainer");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /** The outcome of running a process. */
+  public static class Result {
+    /** Exit value of the process, or {@code -1} if it did not exit normally. */
+    private final int exitValue;
+
+    /** Lines of {@code stdout}, if collected. */
+    private final List<String> stdout;
+
+    /** Lines of {@code stderr}, if collected. */
+    private final List<String> stderr;
+
+    /** Whether the process was killed because it exceeded its timeout. */
+    private final boolean timedOut;
+
+    /** The exception that prevented running the process, or {@code null}. */
+    private final Exception error;
+
+    /**
+     * Constructs an instance of this class.
+     *
+     * @param exitValue the {@link #exitValue exit value of the process}.
+     * @param stdout the {@link #stdout lines of stdout}.
+     * @param stderr the {@link #stderr lines of stderr}.
+     * @param timedOut whether the {@link #timedOut process timed out}.
+     * @param error the {@link #error exception that prevented running the process}.
+     */
+    Result(int exitValue, List<String> stdout, List<String> stderr, boolean timedOut, Exception error) {
+      this.exitValue = exitValue;
+      this.stdout = List.copyOf(stdout);
+      this.stderr = List.copyOf(stderr);
+      this.timedOut = timedOut;
+      this.error = error;
+    }
+
+    /** Returns the {@link #exitValue exit value of the process}. */
+    public int getExitValue() {
+      return this.exitValue;
+    }
+
+    /** Returns the {@link #stdout lines of stdout}. */
+    public List<String> getStdout() {
+      return this.stdout;
+    }
+
+    /** Returns the {@link #stderr lines of stderr}. */
+    public List<String> getStderr() {
+      return this.stderr;
+    }
+
+    /** Returns whether the {@link #timedOut process timed out}. */
+    public boolean isTimedOut() {
+      return this.timedOut;
+    }
+
+    /** Returns the {@link #error exception that prevented running the process}. */
+    public Exception getError() {
+      return this.error;
+    }
+
+    /**
+     * Returns {@code true} if the process ran and exited with value zero,
+     * {@code false} otherwise.
+     */
+    public boolean isSuccess() {
+      return this.error == null && !this.timedOut && this.exitValue == 0;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "exitValue=%d, timedOut=%b, error=%s, stderr=%s",
+          this.exitValue, this.timedOut, this.error, this.stderr
+      );
+    }
+  }
+
   /**
    * Composes a {@link java.lang.ProcessBuilder ProcessBuilder}
    * for executing a bash command.
-   * 
+   *
    * @param command Bash command.
    * @return The {@code ProcessBuilder}.
    */
@@ -24,71 +128,162 @@ public class Bash {
     return new ProcessBuilder("bash", "-c", command);
   }
 
-  /** 
-   * Starts a {@link java.lang.ProcessBuilder ProcessBuilder}.
-   * Any occuring {@link java.lang.Exception Exception}
-   * will cause the whole programm to be shut down.
-   * 
+  /**
+   * Runs a process. Output streams that are piped are drained concurrently
+   * while the process runs and passed line by line to the given consumers.
+   * Each consumer is called from a single thread.
+   *
+   * @param processBuilder The {@code ProcessBuilder} to start.
+   * @param stdoutConsumer Consumer of the lines of {@code stdout}.
+   * @param stderrConsumer Consumer of the lines of {@code stderr}.
+   * @param timeout Time after which the process is killed.
+   * @return The outcome. Lines are not collected in it.
+   */
+  public static Result run(
+      ProcessBuilder processBuilder,
+      Consumer<String> stdoutConsumer,
+      Consumer<String> stderrConsumer,
+      Duration timeout
+  ) {
+    return start(processBuilder, stdoutConsumer, stderrConsumer, timeout, List.of(), List.of());
+  }
+
+  /**
+   * Runs a process and collects its output.
+   *
+   * @param processBuilder The {@code ProcessBuilder} to start.
+   * @param timeout Time after which the process is killed.
+   * @return The outcome, including the lines of piped output streams.
+   */
+  public static Result run(ProcessBuilder processBuilder, Duration timeout) {
+    List<String> stdout = Collections.synchronizedList(new ArrayList<>());
+    List<String> stderr = Collections.synchronizedList(new ArrayList<>());
+    return start(processBuilder, stdout::add, stderr::add, timeout, stdout, stderr);
+  }
+
+  /**
+   * Starts a {@link java.lang.ProcessBuilder ProcessBuilder} and waits for
+   * the process to exit, draining its piped output streams meanwhile.
+   *
    * @param processBuilder The {@code ProcessBuilder} to start.
-   * @return The resulting {@code Process}.
-   * @throws Error on a non-zero exit value.
+   * @param stdoutConsumer Consumer of the lines of {@code stdout}.
+   * @param stderrConsumer Consumer of the lines of {@code stderr}.
+   * @param timeout Time after which the process is killed.
+   * @param stdout Lines of {@code stdout} to report in the result.
+   * @param stderr Lines of {@code stderr} to report in the result.
+   * @return The outcome.
    */
-  private static Process start(ProcessBuilder processBuilder) {
-    Process process = null;
+  private static Result start(
+      ProcessBuilder processBuilder,
+      Consumer<String> stdoutConsumer,
+      Consumer<String> stderrConsumer,
+      Duration timeout,
+      List<String> stdout,
+      List<String> stderr
+  ) {
+    long start = RUN_TIMER.start();
+
+    try {
+      return waitFor(processBuilder, stdoutConsumer, stderrConsumer, timeout, stdout, stderr);
+    } finally {
+      RUN_TIMER.stop(start);
+    }
+  }
+
+  /**
+   * Starts a process and waits for it to exit, see {@link #start(ProcessBuilder,
+   * Consumer, Consumer, Duration, List, List) start}.
+   *
+   * @param processBuilder The {@code ProcessBuilder} to start.
+   * @param stdoutConsumer Consumer of the lines of {@code stdout}.
+   * @param stderrConsumer Consumer of the lines of {@code stderr}.
+   * @param timeout Time after which the process is killed.
+   * @param stdout Lines of {@code stdout} to report in the result.
+   * @param stderr Lines of {@code stderr} to report in the result.
+   * @return The outcome.
+   */
+  private static Result waitFor(
+      ProcessBuilder processBuilder,
+      Consumer<String> stdoutConsumer,
+      Consumer<String> stderrConsumer,
+      Duration timeout,
+      List<String> stdout,
+      List<String> stderr
+  ) {
+    Process process;
 
     try {
       process = processBuilder.start();
-      if (process.waitFor() != 0) {
-        throw new Error(
-            String.format(
-                "status=%d, cause=%s",
-                process.exitValue(),
-                processBuilder.command().toString()
-            )
-        );
+    } catch (IOException e) {
+      return new Result(-1, stdout, stderr, false, e);
+    }
+
+    Future<?> stdoutDrainer = drain(process.getInputStream(), stdoutConsumer);
+    Future<?> stderrDrainer = drain(process.getErrorStream(), stderrConsumer);
+
+    try {
+      if (!process.waitFor(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        process.destroyForcibly();
+        return new Result(-1, stdout, stderr, true, null);
       }
-    } catch (Exception e) {
-      e.printStackTrace();
-      System.exit(1);
+
+      stdoutDrainer.get();
+      stderrDrainer.get();
+      return new Result(process.exitValue(), stdout, stderr, false, null);
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      return new Result(-1, stdout, stderr, false, e);
+    } catch (ExecutionException e) {
+      Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+      return new Result(process.exitValue(), stdout, stderr, false, cause);
     }
+  }
 
-    return process;
+  /**
+   * Drains an output stream of a child process on a separate thread.
+   *
+   * @param stream The stream to drain.
+   * @param consumer Consumer of the lines of the stream.
+   * @return Completion of the draining.
+   */
+  private static Future<?> drain(InputStream stream, Consumer<String> consumer) {
+    return DRAINERS.submit(() -> {
+      try (
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
+      ) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          consumer.accept(line);
+        }
+      }
+
+      return null;
+    });
   }
 
   /**
-   * Executes a bash command. 
+   * Executes a bash command.
    * I/O are the same as those of the current Java process.
-   * 
+   *
    * @param command Bash command to execute.
+   * @return The outcome.
    * @see java.lang.ProcessBuilder#inheritIO()
    */
-  public static void exec(String command) {
-    start(getProcessBuilder(command).inheritIO());
+  public static Result exec(String command) {
+    return run(getProcessBuilder(command).inheritIO(), DEFAULT_TIMEOUT);
   }
 
   /**
    * Executes a bash command.
    * I/O are piped to those of the current Java process.
-   * 
+   *
    * @param command Bash command to execute.
-   * @return Lines of {@code stdout}.
+   * @return The outcome, including the lines of {@code stdout} and
+   *     {@code stderr}.
    * @see java.lang.ProcessBuilder.Redirect#PIPE
    */
-  public static List<String> execAndReadStdout(String command) {
-    InputStream stdout = start(getProcessBuilder(command)).getInputStream();
-    List<String> result = new ArrayList<>();
-
-    try (
-      BufferedReader stdoutReader = new BufferedReader(new InputStreamReader(stdout));
-    ) {
-      String line;
-      while ((line = stdoutReader.readLine()) != null) {
-        result.add(line);
-      }
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
-
-    return result;
+  public static Result execAndReadStdout(String command) {
+    return run(getProcessBuilder(command), DEFAULT_TIMEOUT);
   }
 }
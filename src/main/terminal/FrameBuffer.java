@@ -0,0 +1,319 @@
+package main.terminal;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A double-buffered grid of character cells. A frame is composed into the
+ * current buffer and then {@link #diff() diffed} against the previously
+ * rendered frame, so that only changed cells have to be written to the
+ * terminal.
+ *
+ * @author Neufeld-Martin
+ */
+public class FrameBuffer {
+  /**
+   * Maximum amount of unchanged cells between two changes that are rewritten
+   * instead of moving the cursor. A cursor movement costs about as many bytes.
+   */
+  private static final int MAX_GAP = 6;
+
+  /**
+   * A run of consecutive cells on one line that has to be written.
+   */
+  public static class Run {
+    /** Line of the first cell. */
+    private final int line;
+
+    /** Column of the first cell. */
+    private final int column;
+
+    /** The text to write. */
+    private final String text;
+
+    /**
+     * Constructs an instance of this class.
+     *
+     * @param line the {@link #line line of the first cell}.
+     * @param column the {@link #column column of the first cell}.
+     * @param text the {@link #text text to write}.
+     */
+    public Run(int line, int column, String text) {
+      this.line = line;
+      this.column = column;
+      this.text = text;
+    }
+
+    /** Returns the {@link #line line of the first cell}. */
+    public int getLine() {
+      return this.line;
+    }
+
+    /** Returns the {@link #column column of the first cell}. */
+    public int getColumn() {
+      return this.column;
+    }
+
+    /** Returns the {@link #text text to write}. */
+    public String getText() {
+      return this.text;
+    }
+  }
+
+  /** The screen the frame is rendered to. */
+  private ScreenBackend screen;
+
+  /** The stream cell contents are written to. */
+  private PrintStream out;
+
+  /** Cells of the frame being composed. */
+  private char[][] current = new char[0][];
+
+  /** Widths of the lines of the frame being composed. */
+  private int[] currentWidths = new int[0];
+
+  /** Cells of the frame that was rendered last. */
+  private char[][] previous = new char[0][];
+
+  /** Widths of the lines of the frame that was rendered last. */
+  private int[] previousWidths = new int[0];
+
+  /** Amount of lines of the frame being composed. */
+  private int height;
+
+  /** Returns the {@link #height amount of lines of the frame being composed}. */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /** Line the cursor is at after the last {@link #render render}. */
+  private int cursorLine = -1;
+
+  /** Column the cursor is at after the last {@link #render render}. */
+  private int cursorColumn = -1;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param screen the {@link #screen screen the frame is rendered to}.
+   * @param out the {@link #out stream cell contents are written to}.
+   */
+  public FrameBuffer(ScreenBackend screen, PrintStream out) {
+    this.screen = screen;
+    this.out = out;
+  }
+
+  /**
+   * Renders to another screen from now on, e.g. when the frame buffer is
+   * reused for a game on another connection. The cells are kept for reuse,
+   * but the screen is considered blank and an empty frame is started.
+   *
+   * @param screen the {@link #screen screen the frame is rendered to}.
+   * @param out the {@link #out stream cell contents are written to}.
+   */
+  public void reset(ScreenBackend screen, PrintStream out) {
+    this.screen = screen;
+    this.out = out;
+    clear();
+    invalidate();
+  }
+
+  /** Starts composing a new, empty frame. */
+  public void clear() {
+    Arrays.fill(this.currentWidths, 0);
+    this.height = 0;
+  }
+
+  /**
+   * Marks the screen as blank, so that the next {@link #diff() diff} covers
+   * every non-blank cell. Must be called whenever the screen was cleared.
+   */
+  public void invalidate() {
+    Arrays.fill(this.previousWidths, 0);
+    forgetCursor();
+  }
+
+  /**
+   * Writes text into the frame being composed.
+   *
+   * @param line Line to write to.
+   * @param column Column of the first character.
+   * @param text Text to write. Must not contain line breaks.
+   */
+  public void write(int line, int column, String text) {
+    ensureLine(line, column + text.length());
+
+    char[] cells = this.current[line];
+    for (int i = this.currentWidths[line]; i < column; i++) {
+      cells[i] = ' ';
+    }
+
+    text.getChars(0, text.length(), cells, column);
+    this.currentWidths[line] = Math.max(this.currentWidths[line], column + text.length());
+    this.height = Math.max(this.height, line + 1);
+  }
+
+  /**
+   * Ensures that both buffers can hold the given line and width.
+   *
+   * @param line Line to hold.
+   * @param width Width to hold.
+   */
+  private void ensureLine(int line, int width) {
+    if (line >= this.current.length) {
+      int length = Math.max(line + 1, this.current.length * 2);
+      this.current = Arrays.copyOf(this.current, length);
+      this.currentWidths = Arrays.copyOf(this.currentWidths, length);
+      this.previous = Arrays.copyOf(this.previous, length);
+      this.previousWidths = Arrays.copyOf(this.previousWidths, length);
+    }
+
+    for (int i = 0; i <= line; i++) {
+      if (this.current[i] == null) {
+        this.current[i] = new char[0];
+        this.previous[i] = new char[0];
+      }
+    }
+
+    if (width > this.current[line].length) {
+      int length = Math.max(width, this.current[line].length * 2);
+      this.current[line] = Arrays.copyOf(this.current[line], length);
+    }
+  }
+
+  /**
+   * Computes the runs of cells that differ between the frame being composed
+   * and the previously rendered frame. Cells that were removed are blanked.
+   * Afterwards the composed frame is considered rendered.
+   *
+   * @return The runs to write, ordered by line and column.
+   */
+  public List<Run> diff() {
+    List<Run> runs = new ArrayList<>();
+    int lines = Math.max(this.height, lastPreviousLine() + 1);
+
+    for (int line = 0; line < lines; line++) {
+      diffLine(line, runs);
+    }
+
+    commit();
+    return runs;
+  }
+
+  /** Returns the last line of the previous frame that holds any cell. */
+  private int lastPreviousLine() {
+    for (int i = this.previousWidths.length - 1; i >= 0; i--) {
+      if (this.previousWidths[i] > 0) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Computes the runs of a single line.
+   *
+   * @param line Line to diff.
+   * @param runs Destination of the computed runs.
+   */
+  private void diffLine(int line, List<Run> runs) {
+    int width = Math.max(this.currentWidths[line], this.previousWidths[line]);
+    int start = -1;
+    int end = -1;
+
+    for (int column = 0; column < width; column++) {
+      if (cellAt(line, column) == previousCellAt(line, column)) {
+        continue;
+      }
+
+      if (start >= 0 && column - end > MAX_GAP) {
+        runs.add(new Run(line, start, textOf(line, start, end)));
+        start = -1;
+      }
+
+      if (start < 0) {
+        start = column;
+      }
+      end = column + 1;
+    }
+
+    if (start >= 0) {
+      runs.add(new Run(line, start, textOf(line, start, end)));
+    }
+  }
+
+  /** Returns a cell of the frame being composed, blank if out of bounds. */
+  private char cellAt(int line, int column) {
+    return column < this.currentWidths[line] ? this.current[line][column] : ' ';
+  }
+
+  /** Returns a cell of the previously rendered frame, blank if out of bounds. */
+  private char previousCellAt(int line, int column) {
+    return column < this.previousWidths[line] ? this.previous[line][column] : ' ';
+  }
+
+  /** Returns the text of the cells {@code [start, end)} of the composed frame. */
+  private String textOf(int line, int start, int end) {
+    char[] text = new char[end - start];
+
+    for (int i = start; i < end; i++) {
+      text[i - start] = cellAt(line, i);
+    }
+
+    return new String(text);
+  }
+
+  /** Makes the frame being composed the previously rendered frame. */
+  private void commit() {
+    for (int i = 0; i < this.current.length; i++) {
+      if (this.current[i] == null) {
+        continue;
+      }
+
+      if (this.previous[i].length < this.currentWidths[i]) {
+        this.previous[i] = new char[this.current[i].length];
+      }
+
+      System.arraycopy(this.current[i], 0, this.previous[i], 0, this.currentWidths[i]);
+      this.previousWidths[i] = this.currentWidths[i];
+    }
+  }
+
+  /**
+   * Writes a run, moving the cursor only if it is not already in place.
+   *
+   * @param run The run to write.
+   */
+  public void render(Run run) {
+    if (run.getLine() != this.cursorLine || run.getColumn() != this.cursorColumn) {
+      this.screen.setCursorPosition(run.getLine(), run.getColumn());
+    }
+
+    this.out.print(run.getText());
+    this.cursorLine = run.getLine();
+    this.cursorColumn = run.getColumn() + run.getText().length();
+  }
+
+  /**
+   * Moves the cursor to the given position.
+   *
+   * @param line Destination line.
+   * @param column Destination column.
+   */
+  public void moveCursor(int line, int column) {
+    this.screen.setCursorPosition(line, column);
+    this.cursorLine = line;
+    this.cursorColumn = column;
+  }
+
+  /**
+   * Forgets the cursor position, e.g. after text was printed by other means.
+   */
+  public void forgetCursor() {
+    this.cursorLine = -1;
+    this.cursorColumn = -1;
+  }
+}
@@ -0,0 +1,98 @@
+package main.terminal;
+
+import java.io.File;
+import java.time.Duration;
+
+/**
+ * Switches the terminal attached to this process into a mode in which input
+ * is passed to the process key by key, as opposed to line by line after
+ * enter is pressed, and typed keys are not echoed.
+ *
+ * <p>The terminal settings are saved through {@code stty -g} before they are
+ * changed and restored on {@link #disable()} or, at the latest, when the JVM
+ * exits, including on {@code SIGINT}. Output processing and signal keys are
+ * left untouched, so that line breaks and {@code Ctrl-C} keep working.
+ *
+ * @author Neufeld-Martin
+ */
+public final class RawMode {
+  /** Time after which running {@code stty} is given up. */
+  private static final Duration STTY_TIMEOUT = Duration.ofSeconds(2);
+
+  /** The controlling terminal of this process. */
+  private static final File TTY = new File("/dev/tty");
+
+  /** The saved terminal settings, or {@code null} if raw mode is disabled. */
+  private static String savedSettings;
+
+  /** Whether the hook restoring the settings on exit is registered. */
+  private static boolean hookRegistered;
+
+  /** Constructs an instance of this class. Not used. */
+  private RawMode() {
+  }
+
+  /**
+   * Enables raw mode, if not enabled yet.
+   *
+   * @return {@code true} if raw mode is enabled, {@code false} if the
+   *     terminal settings cannot be changed, e.g. because there is no
+   *     terminal.
+   */
+  public static synchronized boolean enable() {
+    if (savedSettings != null) {
+      return true;
+    }
+
+    if (!TTY.canRead()) {
+      return false;
+    }
+
+    Bash.Result saved = stty("-g");
+    if (!saved.isSuccess() || saved.getStdout().isEmpty()) {
+      return false;
+    }
+
+    if (!stty("-icanon", "-echo", "min", "1", "time", "0").isSuccess()) {
+      return false;
+    }
+
+    savedSettings = saved.getStdout().get(0).trim();
+
+    if (!hookRegistered) {
+      Runtime.getRuntime().addShutdownHook(new Thread(RawMode::disable, "hangman-raw-mode-restorer"));
+      hookRegistered = true;
+    }
+
+    return true;
+  }
+
+  /** Restores the saved terminal settings, if raw mode is enabled. */
+  public static synchronized void disable() {
+    if (savedSettings == null) {
+      return;
+    }
+
+    stty(savedSettings);
+    savedSettings = null;
+  }
+
+  /** Returns {@code true} if raw mode is enabled, {@code false} otherwise. */
+  public static synchronized boolean isEnabled() {
+    return savedSettings != null;
+  }
+
+  /**
+   * Runs {@code stty} on the controlling terminal.
+   *
+   * @param arguments Arguments of {@code stty}.
+   * @return The outcome.
+   */
+  private static Bash.Result stty(String... arguments) {
+    String[] command = new String[arguments.length + 1];
+    command[0] = "stty";
+    System.arraycopy(arguments, 0, command, 1, arguments.length);
+
+    return Bash.run(new ProcessBuilder(command).redirectInput(TTY), STTY_TIMEOUT);
+  }
+}
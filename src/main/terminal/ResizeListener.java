@@ -0,0 +1,17 @@
+package main.terminal;
+
+/**
+ * Listener notified when the size of a screen changes.
+ *
+ * @author Neufeld-Martin
+ */
+@FunctionalInterface
+public interface ResizeListener {
+  /**
+   * Called after the size of the screen changed.
+   *
+   * @param lines The new amount of lines.
+   * @param columns The new amount of columns.
+   */
+  void resized(int lines, int columns);
+}
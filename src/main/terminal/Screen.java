@@ -1,38 +1,112 @@
 package main.terminal;
 
+import java.io.PrintStream;
+
 /**
  * Convenience class for manipulating the terminal screen.
- * 
+ *
+ * <p>All operations are delegated to a {@link ScreenBackend}. By default ANSI
+ * escape sequences are written in-process; the {@code tput} based backend can
+ * be selected by setting the system property {@code hangman.screen} to
+ * {@code tput}.
+ *
  * @author Neufeld-Martin
  */
 public class Screen {
+  /** The backend performing all screen operations. */
+  private static ScreenBackend backend;
+
+  /** Sets the {@link #backend backend performing all screen operations}. */
+  public static synchronized void setBackend(ScreenBackend backend) {
+    Screen.backend = backend;
+  }
+
+  /**
+   * Returns the {@link #backend backend performing all screen operations}.
+   * The backend is created on first access.
+   */
+  public static synchronized ScreenBackend getBackend() {
+    if (backend == null) {
+      backend = createBackend(System.getProperty("hangman.screen", "ansi"));
+    }
+
+    return backend;
+  }
+
+  /**
+   * Creates a backend by name for programs writing to {@link System#out}.
+   *
+   * @param name Either {@code ansi} or {@code tput}.
+   * @return The backend.
+   * @throws IllegalArgumentException if the name is unknown.
+   */
+  public static ScreenBackend createBackend(String name) {
+    return createBackend(name, System.out);
+  }
+
+  /**
+   * Creates a backend by name.
+   *
+   * @param name Either {@code ansi} or {@code tput}.
+   * @param out Stream the program writes to the terminal through.
+   * @return The backend.
+   * @throws IllegalArgumentException if the name is unknown.
+   */
+  public static ScreenBackend createBackend(String name, PrintStream out) {
+    switch (name) {
+      case "ansi":
+        return AnsiScreenBackend.create(out);
+
+      case "tput":
+        return new TputScreenBackend(out);
+
+      default:
+        throw new IllegalArgumentException("Unknown screen backend: " + name);
+    }
+  }
+
   /**
    * Sets the cursor position.
-   * 
+   *
    * @param line Destination line.
    * @param column Destination column.
    */
   public static void setCurorPosition(int line, int column) {
-    Bash.exec(String.format("tput cup %d %d", line, column));
+    getBackend().setCursorPosition(line, column);
   }
 
   /** Returns the amount of lines currently visible on the screen. */
   public static int getLines() {
-    return Integer.parseInt(Bash.execAndReadStdout("tput lines").get(0));
+    return getBackend().getLines();
   }
 
   /** Returns the amount of columns currently visible on the screen. */
   public static int getColumns() {
-    return Integer.parseInt(Bash.execAndReadStdout("tput cols").get(0));
+    return getBackend().getColumns();
+  }
+
+  /** Saves the current cursor position. */
+  public static void saveCursorPosition() {
+    getBackend().saveCursorPosition();
+  }
+
+  /** Restores the cursor position saved last. */
+  public static void restoreCursorPosition() {
+    getBackend().restoreCursorPosition();
   }
 
   /** Clears the screen. */
   public static void clear() {
-    Bash.exec("tput clear");
+    getBackend().clear();
   }
 
   /** Clears the screen from the cursor to the end of the screen. */
   public static void clearFromCursorToEnd() {
-    Bash.exec("tput ed");
+    getBackend().clearFromCursorToEnd();
+  }
+
+  /** Flushes any pending output to the terminal. */
+  public static void flush() {
+    getBackend().flush();
   }
 }
@@ -0,0 +1,55 @@
+package main.terminal;
+
+/**
+ * A backend that performs the actual manipulation of the terminal screen on
+ * behalf of {@link Screen}.
+ *
+ * @author Neufeld-Martin
+ */
+public interface ScreenBackend {
+  /**
+   * Sets the cursor position.
+   *
+   * @param line Destination line.
+   * @param column Destination column.
+   */
+  void setCursorPosition(int line, int column);
+
+  /** Returns the amount of lines currently visible on the screen. */
+  int getLines();
+
+  /** Returns the amount of columns currently visible on the screen. */
+  int getColumns();
+
+  /** Saves the current cursor position. */
+  void saveCursorPosition();
+
+  /** Restores the cursor position saved last. */
+  void restoreCursorPosition();
+
+  /** Clears the screen. */
+  void clear();
+
+  /** Clears the screen from the cursor to the end of the screen. */
+  void clearFromCursorToEnd();
+
+  /** Flushes any pending output to the terminal. */
+  void flush();
+
+  /**
+   * Registers a listener notified when the size of the screen changes.
+   * Ignored by default, for screens of a fixed size.
+   *
+   * @param listener The listener.
+   */
+  default void addResizeListener(ResizeListener listener) {
+  }
+
+  /**
+   * Unregisters a listener notified when the size of the screen changes.
+   *
+   * @param listener The listener.
+   */
+  default void removeResizeListener(ResizeListener listener) {
+  }
+}
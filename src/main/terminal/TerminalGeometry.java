@@ -0,0 +1,273 @@
+package main.terminal;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import main.metrics.Metrics;
+
+/**
+ * Tracks the size of the terminal attached to this process.
+ *
+ * <p>The size is determined on first access and cached afterwards, so that
+ * asking for it costs a field read. The initial size is taken from the
+ * {@code LINES} and {@code COLUMNS} environment variables if both are set,
+ * else from {@code stty size}, which reports both dimensions with a single
+ * child process. The size is determined again when the terminal is resized:
+ * on {@code SIGWINCH} where the JVM supports handling it, else by checking
+ * every {@link #DEFAULT_POLL_INTERVAL} milliseconds, configurable through the
+ * system property {@code hangman.terminal.poll}. Listeners are notified
+ * only if the size actually changed.
+ *
+ * @author Neufeld-Martin
+ */
+public class TerminalGeometry {
+  /** Interval of checking the size in milliseconds, if resizes cannot be signaled. */
+  public static final long DEFAULT_POLL_INTERVAL = 1000;
+
+  /** Amount of lines assumed if the size cannot be determined. */
+  private static final int DEFAULT_LINES = 24;
+
+  /** Amount of columns assumed if the size cannot be determined. */
+  private static final int DEFAULT_COLUMNS = 80;
+
+  /** Time after which querying the size is given up. */
+  private static final Duration QUERY_TIMEOUT = Duration.ofSeconds(2);
+
+  /** The controlling terminal of this process. */
+  private static final File TTY = new File("/dev/tty");
+
+  /** Amount of size changes noticed. */
+  private static final LongAdder RESIZES = Metrics.counter("terminal.resizes");
+
+  /** The instance of this process, or {@code null} if not created yet. */
+  private static TerminalGeometry instance;
+
+  /** The listeners notified of size changes. */
+  private final List<ResizeListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * The cached size, lines in the upper and columns in the lower 32 bits;
+   * {@code 0} if not determined yet.
+   */
+  private volatile long size;
+
+  /** Constructs an instance of this class. Use {@link #getInstance()}. */
+  private TerminalGeometry() {
+  }
+
+  /**
+   * Returns the geometry of the terminal attached to this process. On first
+   * access, the instance starts watching for resizes.
+   *
+   * @return The geometry.
+   */
+  public static synchronized TerminalGeometry getInstance() {
+    if (instance == null) {
+      instance = new TerminalGeometry();
+      instance.watch();
+    }
+
+    return instance;
+  }
+
+  /** Returns the amount of lines of the terminal. */
+  public int getLines() {
+    return (int) (size() >>> 32);
+  }
+
+  /** Returns the amount of columns of the terminal. */
+  public int getColumns() {
+    return (int) size();
+  }
+
+  /** Returns the {@link #size cached size}, determining it on first access. */
+  private long size() {
+    long size = this.size;
+
+    if (size == 0) {
+      synchronized (this) {
+        if (this.size == 0) {
+          this.size = initialSize();
+        }
+        size = this.size;
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Registers a listener notified of size changes. Listeners are called on
+   * the thread noticing the change and must return quickly.
+   *
+   * @param listener The listener.
+   */
+  public void addListener(ResizeListener listener) {
+    this.listeners.add(listener);
+  }
+
+  /**
+   * Unregisters a listener.
+   *
+   * @param listener The listener.
+   */
+  public void removeListener(ResizeListener listener) {
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * Determines the size again and notifies the listeners if it changed. Does
+   * nothing if the size was not determined yet, as then nobody depends on it.
+   */
+  public void refresh() {
+    if (this.size == 0) {
+      return;
+    }
+
+    long size = querySize();
+    long previous;
+
+    synchronized (this) {
+      previous = this.size;
+      if (size == 0 || size == previous) {
+        return;
+      }
+      this.size = size;
+    }
+
+    RESIZES.increment();
+    for (ResizeListener listener : this.listeners) {
+      listener.resized((int) (size >>> 32), (int) size);
+    }
+  }
+
+  /**
+   * Starts watching for resizes: through a {@code SIGWINCH} handler if
+   * possible, else by polling.
+   */
+  private void watch() {
+    if (handleSignal("WINCH", this::refresh)) {
+      return;
+    }
+
+    long interval = Long.getLong("hangman.terminal.poll", DEFAULT_POLL_INTERVAL);
+    if (interval <= 0) {
+      return;
+    }
+
+    ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "hangman-terminal-poller");
+      thread.setDaemon(true);
+      return thread;
+    });
+    poller.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Installs a handler of a signal through {@code sun.misc.Signal}. The API
+   * is accessed reflectively, as it is not available on every runtime.
+   *
+   * @param name Name of the signal without the {@code SIG} prefix.
+   * @param handler The handler, called on a thread of the JVM.
+   * @return {@code true} if the handler was installed, {@code false} if
+   *     the signal cannot be handled on this runtime or platform.
+   */
+  private static boolean handleSignal(String name, Runnable handler) {
+    try {
+      Class<?> signalClass = Class.forName("sun.misc.Signal");
+      Class<?> handlerClass = Class.forName("sun.misc.SignalHandler");
+
+      Object signalHandler = Proxy.newProxyInstance(
+          handlerClass.getClassLoader(),
+          new Class<?>[] {handlerClass},
+          (proxy, method, args) -> {
+            switch (method.getName()) {
+              case "handle":
+                handler.run();
+                return null;
+
+              case "equals":
+                return proxy == args[0];
+
+              case "hashCode":
+                return System.identityHashCode(proxy);
+
+              default:
+                return "SIG" + name + " handler";
+            }
+          }
+      );
+
+      signalClass
+          .getMethod("handle", signalClass, handlerClass)
+          .invoke(null, signalClass.getConstructor(String.class).newInstance(name), signalHandler);
+      return true;
+    } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+      return false;
+    }
+  }
+
+  /** Returns the size at first access, see {@link #size}. */
+  private static long initialSize() {
+    try {
+      String lines = System.getenv("LINES");
+      String columns = System.getenv("COLUMNS");
+
+      if (lines != null && columns != null) {
+        return pack(Integer.parseInt(lines.trim()), Integer.parseInt(columns.trim()));
+      }
+    } catch (NumberFormatException e) {
+      // Fall back to querying the terminal.
+    }
+
+    long size = querySize();
+    return size == 0 ? pack(DEFAULT_LINES, DEFAULT_COLUMNS) : size;
+  }
+
+  /**
+   * Queries the size of the terminal through {@code stty size}.
+   *
+   * @return The size, see {@link #size}, or {@code 0} if it cannot be
+   *     determined, e.g. because there is no terminal.
+   */
+  private static long querySize() {
+    if (!TTY.canRead()) {
+      return 0;
+    }
+
+    Bash.Result result = Bash.run(
+        new ProcessBuilder("stty", "size").redirectInput(TTY), QUERY_TIMEOUT
+    );
+
+    if (!result.isSuccess() || result.getStdout().isEmpty()) {
+      return 0;
+    }
+
+    String[] dimensions = result.getStdout().get(0).trim().split("\\s+");
+
+    try {
+      return dimensions.length == 2
+          ? pack(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]))
+          : 0;
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Packs a size into a {@code long}, see {@link #size}.
+   *
+   * @param lines Amount of lines.
+   * @param columns Amount of columns.
+   * @return The packed size, or {@code 0} if a dimension is not positive.
+   */
+  private static long pack(int lines, int columns) {
+    return lines > 0 && columns > 0 ? (long) lines << 32 | columns : 0;
+  }
+}
@@ -0,0 +1,92 @@
+package main.terminal;
+
+import java.io.PrintStream;
+
+/**
+ * Screen backend that forks {@code tput} through {@link Bash} for every
+ * operation but size queries, which are answered by {@link
+ * TerminalGeometry}. Slow, but works with any terminal known to terminfo.
+ *
+ * @author Neufeld-Martin
+ */
+public class TputScreenBackend implements ScreenBackend {
+  /** Stream the program writes to the terminal through. */
+  private final PrintStream out;
+
+  /** Constructs an instance of this class for programs writing to {@link System#out}. */
+  public TputScreenBackend() {
+    this(System.out);
+  }
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param out the {@link #out stream the program writes to the terminal
+   *     through}. It is flushed before every operation.
+   */
+  public TputScreenBackend(PrintStream out) {
+    this.out = out;
+  }
+
+  @Override
+  public void setCursorPosition(int line, int column) {
+    exec(String.format("tput cup %d %d", line, column));
+  }
+
+  @Override
+  public int getLines() {
+    return TerminalGeometry.getInstance().getLines();
+  }
+
+  @Override
+  public int getColumns() {
+    return TerminalGeometry.getInstance().getColumns();
+  }
+
+  @Override
+  public void addResizeListener(ResizeListener listener) {
+    TerminalGeometry.getInstance().addListener(listener);
+  }
+
+  @Override
+  public void removeResizeListener(ResizeListener listener) {
+    TerminalGeometry.getInstance().removeListener(listener);
+  }
+
+  @Override
+  public void saveCursorPosition() {
+    exec("tput sc");
+  }
+
+  @Override
+  public void restoreCursorPosition() {
+    exec("tput rc");
+  }
+
+  @Override
+  public void clear() {
+    exec("tput clear");
+  }
+
+  @Override
+  public void clearFromCursorToEnd() {
+    exec("tput ed");
+  }
+
+  @Override
+  public void flush() {
+    this.out.flush();
+  }
+
+  /**
+   * Executes a bash command writing to the terminal. Pending output of this
+   * process is flushed first, so that the order of writes is preserved.
+   * A failing command leaves the screen as is.
+   *
+   * @param command Bash command to execute.
+   */
+  private void exec(String command) {
+    this.out.flush();
+    Bash.exec(command);
+  }
+}
@@ -0,0 +1,179 @@
+package main.tournament;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import main.hangman.Round;
+
+/**
+ * Scores of all players of a tournament, recorded concurrently by any number
+ * of game threads.
+ *
+ * <p>Recording a round only increments {@link LongAdder striped counters},
+ * so game threads never wait for each other or for readers. Readers get a
+ * sorted view that is rebuilt on demand if rounds were recorded since it was
+ * built, and published by compare-and-set; concurrent readers may build a
+ * view each, but none of them blocks.
+ *
+ * <p>Points are awarded per round:<ul>
+ *     <li>the guesser scores one point per wrong guess left, plus one, if the
+ *     word was guessed.</li>
+ *     <li>the word setter scores one point per wrong guess of the
+ *     guesser, if any.</li>
+ *     </ul>
+ *
+ * @author Neufeld-Martin
+ */
+public class Leaderboard {
+  /** Orders standings by points, then rounds won, then name. */
+  private static final Comparator<Standing> ORDER = Comparator
+      .comparingLong(Standing::getPoints).reversed()
+      .thenComparing(Comparator.comparingLong(Standing::getWon).reversed())
+      .thenComparing(Standing::getPlayer);
+
+  /** Counters of a single player. */
+  private static class Stats {
+    /** Total points. */
+    final LongAdder points = new LongAdder();
+
+    /** Rounds played as guesser. */
+    final LongAdder guessed = new LongAdder();
+
+    /** Rounds won as guesser. */
+    final LongAdder won = new LongAdder();
+
+    /** Rounds played as word setter. */
+    final LongAdder set = new LongAdder();
+  }
+
+  /** A sorted view of all standings. */
+  private static class View {
+    /** Amount of rounds recorded when the view was built. */
+    final long recorded;
+
+    /** The standings, best first. */
+    final List<Standing> standings;
+
+    /**
+     * Constructs an instance of this class.
+     *
+     * @param recorded the {@link #recorded amount of rounds recorded}.
+     * @param standings the {@link #standings standings}.
+     */
+    View(long recorded, List<Standing> standings) {
+      this.recorded = recorded;
+      this.standings = standings;
+    }
+  }
+
+  /** Counters of all players by name. */
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+  /** Amount of recorded rounds. */
+  private final LongAdder recorded = new LongAdder();
+
+  /** The latest sorted view. */
+  private final AtomicReference<View> view = new AtomicReference<>(new View(0, List.of()));
+
+  /**
+   * Records a finished round.
+   *
+   * @param setter Name of the player who set the word, or {@code null} if
+   *     the word was picked by the computer.
+   * @param guesser Name of the player who guessed.
+   * @param round The finished round.
+   */
+  public void record(String setter, String guesser, Round round) {
+    Stats guesserStats = statsOf(guesser);
+    int wrongGuesses = Math.min(round.getWrongGuesses(), round.getMaxGuesses() + 1);
+
+    guesserStats.guessed.increment();
+    if (round.isWon()) {
+      guesserStats.won.increment();
+      guesserStats.points.add(round.getMaxGuesses() + 1 - wrongGuesses);
+    }
+
+    if (setter != null) {
+      Stats setterStats = statsOf(setter);
+      setterStats.set.increment();
+      setterStats.points.add(wrongGuesses);
+    }
+
+    this.recorded.increment();
+  }
+
+  /**
+   * Returns the counters of a player, creating them on first access.
+   *
+   * @param player Name of the player.
+   */
+  private Stats statsOf(String player) {
+    Stats playerStats = this.stats.get(player);
+
+    if (playerStats == null) {
+      playerStats = this.stats.computeIfAbsent(player, name -> new Stats());
+    }
+
+    return playerStats;
+  }
+
+  /** Returns the amount of recorded rounds. */
+  public long getRecorded() {
+    return this.recorded.sum();
+  }
+
+  /**
+   * Returns the best players.
+   *
+   * @param n Maximum amount of players to return.
+   * @return The standings of the best players, best first.
+   */
+  public List<Standing> top(int n) {
+    List<Standing> standings = standings();
+    return standings.subList(0, Math.min(n, standings.size()));
+  }
+
+  /**
+   * Returns the standings of all players, rebuilding the sorted view if
+   * rounds were recorded since it was built.
+   *
+   * @return The standings, best first. Read-only.
+   */
+  public List<Standing> standings() {
+    View current = this.view.get();
+    long recorded = this.recorded.sum();
+
+    if (current.recorded >= recorded) {
+      return current.standings;
+    }
+
+    List<Standing> standings = new ArrayList<>(this.stats.size());
+    this.stats.forEach((player, playerStats) -> standings.add(new Standing(
+        player,
+        playerStats.points.sum(),
+        playerStats.guessed.sum(),
+        playerStats.won.sum(),
+        playerStats.set.sum()
+    )));
+    standings.sort(ORDER);
+
+    View rebuilt = new View(recorded, Collections.unmodifiableList(standings));
+
+    // A concurrent reader may have published a newer view meanwhile; keep it.
+    while (true) {
+      View published = this.view.get();
+
+      if (published.recorded >= recorded) {
+        return published.standings;
+      }
+      if (this.view.compareAndSet(published, rebuilt)) {
+        return rebuilt.standings;
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package main.tournament;
+
+/**
+ * The scores of a player at the time a {@link Leaderboard} view was taken.
+ *
+ * @author Neufeld-Martin
+ */
+public class Standing {
+  /** Name of the player. */
+  private final String player;
+
+  /** Total points. */
+  private final long points;
+
+  /** Rounds played as guesser. */
+  private final long guessed;
+
+  /** Rounds won as guesser. */
+  private final long won;
+
+  /** Rounds played as word setter. */
+  private final long set;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param player the {@link #player name of the player}.
+   * @param points the {@link #points total points}.
+   * @param guessed the {@link #guessed rounds played as guesser}.
+   * @param won the {@link #won rounds won as guesser}.
+   * @param set the {@link #set rounds played as word setter}.
+   */
+  public Standing(String player, long points, long guessed, long won, long set) {
+    this.player = player;
+    this.points = points;
+    this.guessed = guessed;
+    this.won = won;
+    this.set = set;
+  }
+
+  /** Returns the {@link #player name of the player}. */
+  public String getPlayer() {
+    return this.player;
+  }
+
+  /** Returns the {@link #points total points}. */
+  public long getPoints() {
+    return this.points;
+  }
+
+  /** Returns the {@link #guessed rounds played as guesser}. */
+  public long getGuessed() {
+    return this.guessed;
+  }
+
+  /** Returns the {@link #won rounds won as guesser}. */
+  public long getWon() {
+    return this.won;
+  }
+
+  /** Returns the {@link #set rounds played as word setter}. */
+  public long getSet() {
+    return this.set;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%-16s %8d points  %6d/%-6d won  %6d set",
+        this.player, this.points, this.won, this.guessed, this.set
+    );
+  }
+}
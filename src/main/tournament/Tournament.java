@@ -0,0 +1,212 @@
+package main.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import main.hangman.Game;
+import main.hangman.Round;
+import main.io.Port;
+import main.simulation.BatchRunner;
+import main.simulation.Guesser;
+import main.terminal.RawMode;
+import main.words.WordSource;
+
+/**
+ * A tournament of many rounds between many players. The roles of word setter
+ * and guesser rotate, so that over {@code n * (n - 1)} rounds every player
+ * sets a word for every other player exactly once. Scores are recorded in a
+ * {@link Leaderboard}.
+ *
+ * @author Neufeld-Martin
+ */
+public class Tournament {
+  /** Amount of players listed after each round. */
+  private static final int TOP = 10;
+
+  /** Names of the players. */
+  private final List<String> players;
+
+  /** Amount of rounds to play. */
+  private final int rounds;
+
+  /** Maximum amount of wrong guesses per round. */
+  private final int maxGuesses;
+
+  /**
+   * Source of words to guess, or {@code null} to let the setter provide them.
+   * If present, the setter's word is drawn from it.
+   */
+  private final WordSource wordSource;
+
+  /** The scores of the players. */
+  private final Leaderboard leaderboard;
+
+  /**
+   * Whether players guess and continue by single key presses, see {@link
+   * Game#setKeyInput(boolean)}. The terminal is switched into {@link RawMode
+   * raw mode} for guessing only, so that setters type their words as usual.
+   */
+  private boolean keyInput;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param players the {@link #players names of the players}. At least two.
+   * @param rounds the {@link #rounds amount of rounds to play}.
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @param wordSource the {@link #wordSource source of words to guess}.
+   * @param leaderboard the {@link #leaderboard scores of the players}.
+   * @throws IllegalArgumentException if there are less than two players.
+   */
+  public Tournament(
+      List<String> players,
+      int rounds,
+      int maxGuesses,
+      WordSource wordSource,
+      Leaderboard leaderboard
+  ) {
+    if (players.size() < 2) {
+      throw new IllegalArgumentException("A tournament needs at least two players.");
+    }
+
+    this.players = List.copyOf(players);
+    this.rounds = rounds;
+    this.maxGuesses = maxGuesses;
+    this.wordSource = wordSource;
+    this.leaderboard = leaderboard;
+  }
+
+  /** Sets {@link #keyInput whether players guess by single key presses}. */
+  public void setKeyInput(boolean keyInput) {
+    this.keyInput = keyInput;
+  }
+
+  /** Returns the {@link #leaderboard scores of the players}. */
+  public Leaderboard getLeaderboard() {
+    return this.leaderboard;
+  }
+
+  /**
+   * Returns the word setter of a round. Rounds cycle through all ordered
+   * pairs of players, first pairing every player with the next one, then
+   * with the one after next, and so on.
+   *
+   * @param round Index of the round.
+   */
+  public String setterOf(int round) {
+    return this.players.get(round % this.players.size());
+  }
+
+  /**
+   * Returns the guesser of a round, see {@link #setterOf(int)}.
+   *
+   * @param round Index of the round.
+   */
+  public String guesserOf(int round) {
+    int size = this.players.size();
+    int offset = 1 + (round / size) % (size - 1);
+    return this.players.get((round + offset) % size);
+  }
+
+  /**
+   * Plays all rounds interactively through a port, listing the best players
+   * after each round.
+   *
+   * @param port The port to play through.
+   */
+  public void play(Port port) {
+    Game game = new Game(port);
+
+    for (int round = 0; round < this.rounds; round++) {
+      String setter = setterOf(round);
+      String guesser = guesserOf(round);
+
+      port.out().printf(
+          "Round %d of %d: %s sets the word, %s guesses.%n", round + 1, this.rounds, setter, guesser
+      );
+
+      if (this.keyInput && this.wordSource == null) {
+        RawMode.disable();
+      }
+      game.reset(this.wordSource == null ? null : this.wordSource.nextWord(guesser), this.maxGuesses);
+
+      boolean keys = this.keyInput && RawMode.enable();
+      game.setKeyInput(keys);
+      game.play();
+      this.leaderboard.record(setter, guesser, game.getRound());
+      if (this.wordSource != null) {
+        this.wordSource.recordResult(guesser, game.getRound().isWon());
+      }
+
+      port.out().printf("%nLeaderboard:%n");
+      this.leaderboard.top(TOP).forEach(standing -> port.out().printf("  %s%n", standing));
+
+      if (round + 1 < this.rounds && keys) {
+        port.out().print("Press any key to continue: ");
+        port.nextKey();
+      } else if (round + 1 < this.rounds) {
+        port.out().print("Enter anything to continue: ");
+        port.next();
+      }
+    }
+  }
+
+  /**
+   * Plays all rounds without I/O, letting computer guessers guess words
+   * picked by the {@link #wordSource word source}.
+   *
+   * @param guessers Creates a guesser for each thread.
+   * @param threads Amount of threads to play on.
+   * @throws IllegalStateException if there is no word source.
+   */
+  public void simulate(Supplier<Guesser> guessers, int threads) {
+    if (this.wordSource == null) {
+      throw new IllegalStateException("Simulated tournaments need a word source.");
+    }
+
+    AtomicInteger nextRound = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<?>> workers = new ArrayList<>();
+
+    for (int i = 0; i < threads; i++) {
+      workers.add(executor.submit(() -> {
+        Guesser guesser = guessers.get();
+
+        for (int round; (round = nextRound.getAndIncrement()) < this.rounds; ) {
+          String player = guesserOf(round);
+          this.leaderboard.record(setterOf(round), player, play(guesser, player));
+        }
+      }));
+    }
+
+    try {
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays a single round to the end.
+   *
+   * @param guesser The guesser.
+   * @param player Name of the player the guesser plays for.
+   * @return The finished round.
+   */
+  private Round play(Guesser guesser, String player) {
+    Round round = BatchRunner.play(this.wordSource.nextWord(player), guesser, this.maxGuesses);
+    this.wordSource.recordResult(player, round.isWon());
+    return round;
+  }
+}
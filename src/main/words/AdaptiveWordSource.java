@@ -0,0 +1,296 @@
+package main.words;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Word source that picks words whose difficulty matches the rolling win rate
+ * of the player who guesses them, based on measured {@link SolveRates solve
+ * rates}.
+ *
+ * <p>The difficulty of a word is one minus its solve rate. A player who won
+ * 80 percent of the last rounds gets words that are solved in 20 percent of
+ * the simulated rounds, a player who lost most rounds gets words that are
+ * almost always solved. Players without results are treated as winning half
+ * of their rounds.
+ *
+ * <p>On construction, the words are grouped into {@link #BANDS bands} of
+ * solve rates, so that a word is picked in constant time from the band
+ * nearest to the target rate. Words without a measured rate are never
+ * picked. Instances are thread-safe.
+ *
+ * <p>The results of the players can be {@link #writeResults(Path) written}
+ * to a file next to the word list and {@link #readResults(Path) read} again,
+ * so that win rates carry over from one launch to the next.
+ *
+ * @author Neufeld-Martin
+ */
+public class AdaptiveWordSource implements WordSource {
+  /** Amount of rounds the win rate of a player is taken over, if not specified otherwise. */
+  public static final int DEFAULT_WINDOW = 10;
+
+  /** Amount of bands the solve rates are divided into. */
+  private static final int BANDS = 16;
+
+  /** Extension appended to the name of a word list to name its results file. */
+  private static final String RESULTS_EXTENSION = ".results";
+
+  /** Name of the player of {@link #nextWord()}. */
+  private static final String ANONYMOUS = "";
+
+  /** The dictionary to pick from. */
+  private final Dictionary dictionary;
+
+  /** Ids of the pickable words, ordered by band. */
+  private final int[] ids;
+
+  /** Index of the first id of each band within the {@link #ids ids}; the last entry holds their amount. */
+  private final int[] bandStarts;
+
+  /** Amount of rounds the win rate of a player is taken over, at most {@value Long#SIZE}. */
+  private final int window;
+
+  /** Results of the last rounds of each player. */
+  private final Map<String, Results> results = new ConcurrentHashMap<>();
+
+  /** The results of the last rounds of a player. */
+  private static class Results {
+    /** Outcome of each of the last rounds, most recent in bit 0; a set bit is a win. */
+    private long outcomes;
+
+    /** Amount of recorded rounds, at most the window. */
+    private int count;
+
+    /**
+     * Records the outcome of a round.
+     *
+     * @param won Whether the round was won.
+     * @param window Amount of rounds the win rate is taken over.
+     */
+    synchronized void record(boolean won, int window) {
+      long mask = window == Long.SIZE ? -1L : (1L << window) - 1;
+      this.outcomes = ((this.outcomes << 1) | (won ? 1 : 0)) & mask;
+      this.count = Math.min(this.count + 1, window);
+    }
+
+    /** Returns the fraction of the recorded rounds that were won, {@code 0.5} if none. */
+    synchronized double winRate() {
+      return this.count == 0 ? 0.5 : (double) Long.bitCount(this.outcomes) / this.count;
+    }
+
+    /**
+     * Encodes the results as the amount of recorded rounds and the outcomes
+     * in hexadecimal, separated by a blank.
+     */
+    synchronized String encode() {
+      return this.count + " " + Long.toHexString(this.outcomes);
+    }
+
+    /**
+     * Decodes results encoded by {@link #encode()}, dropping rounds beyond
+     * the window.
+     *
+     * @param count Amount of recorded rounds.
+     * @param outcomes Outcomes in hexadecimal.
+     * @param window Amount of rounds the win rate is taken over.
+     * @return The results.
+     * @throws NumberFormatException if the results are malformed.
+     */
+    static Results decode(String count, String outcomes, int window) {
+      Results results = new Results();
+      long mask = window == Long.SIZE ? -1L : (1L << window) - 1;
+
+      results.count = Math.max(0, Math.min(Integer.parseInt(count), window));
+      results.outcomes = Long.parseUnsignedLong(outcomes, 16) & mask;
+      return results;
+    }
+  }
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param dictionary the {@link #dictionary dictionary to pick from}.
+   * @param rates The solve rates of the words of the dictionary.
+   * @param minLength Minimum length of picked words.
+   * @param maxLength Maximum length of picked words.
+   * @param window the {@link #window amount of rounds the win rate of a
+   *     player is taken over}.
+   * @throws NoSuchElementException if no word of the length range has a
+   *     measured rate.
+   */
+  public AdaptiveWordSource(
+      Dictionary dictionary, SolveRates rates, int minLength, int maxLength, int window
+  ) {
+    this.dictionary = dictionary;
+    this.window = Math.max(1, Math.min(window, Long.SIZE));
+
+    byte[] bands = new byte[dictionary.size()];
+    int[] counts = new int[BANDS];
+
+    for (int id = 0; id < bands.length; id++) {
+      int length = dictionary.length(id);
+      int rate = length < minLength || length > maxLength
+          ? -1
+          : rates.rateOf(SolveRates.keyOf(dictionary, id));
+
+      bands[id] = (byte) (rate < 0 ? -1 : bandOf(rate / (double) SolveRates.MAX_RATE));
+      if (rate >= 0) {
+        counts[bands[id]]++;
+      }
+    }
+
+    this.bandStarts = new int[BANDS + 1];
+    for (int band = 0; band < BANDS; band++) {
+      this.bandStarts[band + 1] = this.bandStarts[band] + counts[band];
+    }
+
+    if (this.bandStarts[BANDS] == 0) {
+      throw new NoSuchElementException("No word has a measured solve rate.");
+    }
+
+    this.ids = new int[this.bandStarts[BANDS]];
+    int[] cursors = this.bandStarts.clone();
+
+    for (int id = 0; id < bands.length; id++) {
+      if (bands[id] >= 0) {
+        this.ids[cursors[bands[id]]++] = id;
+      }
+    }
+  }
+
+  /**
+   * Constructs an instance of this class picking words of any length,
+   * taking the win rate over {@link #DEFAULT_WINDOW} rounds.
+   *
+   * @param dictionary the {@link #dictionary dictionary to pick from}.
+   * @param rates The solve rates of the words of the dictionary.
+   */
+  public AdaptiveWordSource(Dictionary dictionary, SolveRates rates) {
+    this(dictionary, rates, 1, Dictionary.MAX_LENGTH, DEFAULT_WINDOW);
+  }
+
+  /**
+   * Returns the band of a solve rate.
+   *
+   * @param rate The solve rate from {@code 0} to {@code 1}.
+   */
+  private static int bandOf(double rate) {
+    return Math.min(BANDS - 1, (int) (rate * BANDS));
+  }
+
+  @Override
+  public String nextWord() {
+    return nextWord(ANONYMOUS);
+  }
+
+  @Override
+  public String nextWord(String player) {
+    int target = bandOf(1 - winRate(player));
+    Random random = ThreadLocalRandom.current();
+
+    for (int distance = 0; ; distance++) {
+      for (int band : new int[] {target - distance, target + distance}) {
+        if (band < 0 || band >= BANDS) {
+          continue;
+        }
+
+        int from = this.bandStarts[band];
+        int to = this.bandStarts[band + 1];
+
+        if (from < to) {
+          return this.dictionary.word(this.ids[from + random.nextInt(to - from)]);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void recordResult(String player, boolean won) {
+    this.results.computeIfAbsent(player, name -> new Results()).record(won, this.window);
+  }
+
+  /**
+   * Reads the results of the players from the file next to a word list,
+   * replacing the results recorded so far of the players contained in it.
+   * Lines that cannot be decoded are skipped.
+   *
+   * @param wordList The word list the results belong to.
+   * @throws IOException if the file exists but cannot be read.
+   */
+  public void readResults(Path wordList) throws IOException {
+    Path path = resultsPathOf(wordList);
+
+    if (!Files.isRegularFile(path)) {
+      return;
+    }
+
+    try (
+      BufferedReader reader = Files.newBufferedReader(path);
+    ) {
+      String line;
+
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split(" ", 3);
+
+        if (fields.length < 3) {
+          continue;
+        }
+
+        try {
+          this.results.put(fields[2], Results.decode(fields[0], fields[1], this.window));
+        } catch (NumberFormatException e) {
+          // Skip the malformed line.
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the results of all players to a file next to a word list, one
+   * player per line. The file is replaced atomically.
+   *
+   * @param wordList The word list the results belong to.
+   * @throws IOException if the file cannot be written.
+   */
+  public void writeResults(Path wordList) throws IOException {
+    Path path = resultsPathOf(wordList);
+    Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+    try (
+      BufferedWriter writer = Files.newBufferedWriter(temporary);
+    ) {
+      for (Map.Entry<String, Results> entry : this.results.entrySet()) {
+        writer.write(entry.getValue().encode() + " " + entry.getKey());
+        writer.newLine();
+      }
+    }
+
+    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Returns the path of the results file of a word list. */
+  private static Path resultsPathOf(Path wordList) {
+    return wordList.resolveSibling(wordList.getFileName() + RESULTS_EXTENSION);
+  }
+
+  /**
+   * Returns the rolling win rate of a player.
+   *
+   * @param player Name of the player.
+   * @return The fraction of the last rounds the player won, {@code 0.5} if
+   *     the player has no results.
+   */
+  public double winRate(String player) {
+    Results results = this.results.get(player);
+    return results == null ? 0.5 : results.winRate();
+  }
+}
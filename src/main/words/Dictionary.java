@@ -0,0 +1,575 @@
+package main.words;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A read-only dictionary of words to guess, backed by a memory-mapped word
+ * list with one word per line.
+ *
+ * <p>Words are never copied out of the mapped file until they are requested.
+ * Each word is identified by an id; ids are ordered by {@link Difficulty} and
+ * then by length, so that all words of one difficulty within a length range
+ * form a contiguous range of ids. This allows picking a random matching word
+ * in constant time.
+ *
+ * <p>Words are also indexed by their letters: for each letter A-Z, a bitset
+ * over the ids marks the words containing it. This allows finding the words
+ * that contain some or all letters of a set, e.g. {@link
+ * #nextIdWithAnyLetter(int, int, int) with a wrongly guessed letter}, without
+ * checking every word. The letter index is derived from the letter masks on
+ * first use and is not part of the index file.
+ *
+ * <p>Building the index requires a pass over the word list. The index can be
+ * {@link #compile(Path) compiled} into a binary file next to the word list,
+ * which is then mapped by {@link #open(Path)} instead of parsing the list
+ * again. Word lists must be smaller than 2 GiB.
+ *
+ * @author Neufeld-Martin
+ */
+public class Dictionary {
+  /** Maximum length of words; longer lines of the word list are skipped. */
+  public static final int MAX_LENGTH = 64;
+
+  /** Magic number identifying an index file. */
+  private static final int MAGIC = 0x484d4458;
+
+  /** Version of the index file format. */
+  private static final int VERSION = 1;
+
+  /** Size of the header of an index file in bytes. */
+  private static final int HEADER_SIZE = 32;
+
+  /** Amount of length buckets per difficulty, covering lengths 0 to {@code MAX_LENGTH + 1}. */
+  private static final int BUCKETS = MAX_LENGTH + 2;
+
+  /** File extension of index files. */
+  private static final String INDEX_EXTENSION = ".idx";
+
+  /** The mapped word list. */
+  private final ByteBuffer words;
+
+  /** Byte offset of each word within the {@link #words word list}, by id. */
+  private final IntBuffer offsets;
+
+  /** Length of each word, by id. */
+  private final IntBuffer lengths;
+
+  /** Letters of each word as a bitmask, see {@link Difficulty#maskOf(CharSequence)}. */
+  private final IntBuffer letterMasks;
+
+  /**
+   * For each letter A-Z, a bitset over the ids whose bit is set if the word
+   * contains the letter, or {@code null} until first used.
+   */
+  private volatile long[][] letterIndex;
+
+  /**
+   * First id of each bucket. The bucket of a word is {@code difficulty *
+   * BUCKETS + length}; the last entry holds the amount of words.
+   */
+  private final IntBuffer starts;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param words the {@link #words mapped word list}.
+   * @param offsets the {@link #offsets offsets of the words}.
+   * @param lengths the {@link #lengths lengths of the words}.
+   * @param letterMasks the {@link #letterMasks letters of the words}.
+   * @param starts the {@link #starts first id of each bucket}.
+   */
+  private Dictionary(
+      ByteBuffer words, IntBuffer offsets, IntBuffer lengths, IntBuffer letterMasks, IntBuffer starts
+  ) {
+    this.words = words;
+    this.offsets = offsets;
+    this.lengths = lengths;
+    this.letterMasks = letterMasks;
+    this.starts = starts;
+  }
+
+  /**
+   * Opens a word list. If a {@link #compile(Path) compiled} index of the
+   * current version of the word list exists, it is mapped; otherwise the
+   * index is built in memory.
+   *
+   * @param wordList File with one word per line.
+   * @return The dictionary.
+   * @throws IOException if a file cannot be read.
+   */
+  public static Dictionary open(Path wordList) throws IOException {
+    ByteBuffer words = map(wordList);
+    Path index = indexPathOf(wordList);
+
+    if (Files.isRegularFile(index)) {
+      Dictionary dictionary = load(wordList, words, index);
+
+      if (dictionary != null) {
+        return dictionary;
+      }
+    }
+
+    return build(words);
+  }
+
+  /**
+   * Builds the index of a word list and writes it next to the word list, so
+   * that subsequent calls of {@link #open(Path)} map it instead of parsing
+   * the word list.
+   *
+   * @param wordList File with one word per line.
+   * @return The dictionary.
+   * @throws IOException if a file cannot be read or written.
+   */
+  public static Dictionary compile(Path wordList) throws IOException {
+    Dictionary dictionary = build(map(wordList));
+    dictionary.write(wordList, indexPathOf(wordList));
+    return dictionary;
+  }
+
+  /** Returns the path of the index file of a word list. */
+  private static Path indexPathOf(Path wordList) {
+    return wordList.resolveSibling(wordList.getFileName() + INDEX_EXTENSION);
+  }
+
+  /**
+   * Maps a file read-only into memory.
+   *
+   * @param path The file.
+   * @return The mapped content.
+   * @throws IOException if the file cannot be read.
+   */
+  private static ByteBuffer map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  /**
+   * Parses a mapped word list and builds its index. Lines that do not consist
+   * of letters A-Z only (in any case, surrounding whitespace ignored) are
+   * skipped.
+   *
+   * @param words The mapped word list.
+   * @return The dictionary.
+   */
+  private static Dictionary build(ByteBuffer words) {
+    int[] offsets = new int[1024];
+    int[] lengths = new int[1024];
+    int[] masks = new int[1024];
+    int[] buckets = new int[1024];
+    int[] counts = new int[Difficulty.values().length * BUCKETS];
+    int size = 0;
+
+    int limit = words.limit();
+    int lineStart = 0;
+
+    while (lineStart < limit) {
+      int lineEnd = lineStart;
+      while (lineEnd < limit && words.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+
+      int start = lineStart;
+      int end = lineEnd;
+      while (start < end && words.get(start) <= ' ') {
+        start++;
+      }
+      while (end > start && words.get(end - 1) <= ' ') {
+        end--;
+      }
+
+      int mask = letterMaskOf(words, start, end);
+
+      if (mask != 0 && end - start <= MAX_LENGTH) {
+        if (size == offsets.length) {
+          offsets = Arrays.copyOf(offsets, size * 2);
+          lengths = Arrays.copyOf(lengths, size * 2);
+          masks = Arrays.copyOf(masks, size * 2);
+          buckets = Arrays.copyOf(buckets, size * 2);
+        }
+
+        int bucket = Difficulty.of(mask).ordinal() * BUCKETS + end - start;
+        offsets[size] = start;
+        lengths[size] = end - start;
+        masks[size] = mask;
+        buckets[size] = bucket;
+        counts[bucket]++;
+        size++;
+      }
+
+      lineStart = lineEnd + 1;
+    }
+
+    int[] starts = new int[counts.length + 1];
+    for (int i = 0; i < counts.length; i++) {
+      starts[i + 1] = starts[i] + counts[i];
+    }
+
+    int[] sortedOffsets = new int[size];
+    int[] sortedLengths = new int[size];
+    int[] sortedMasks = new int[size];
+    int[] cursors = Arrays.copyOf(starts, counts.length);
+
+    for (int i = 0; i < size; i++) {
+      int id = cursors[buckets[i]]++;
+      sortedOffsets[id] = offsets[i];
+      sortedLengths[id] = lengths[i];
+      sortedMasks[id] = masks[i];
+    }
+
+    return new Dictionary(
+        words,
+        IntBuffer.wrap(sortedOffsets),
+        IntBuffer.wrap(sortedLengths),
+        IntBuffer.wrap(sortedMasks),
+        IntBuffer.wrap(starts)
+    );
+  }
+
+  /**
+   * Returns the letters of a word within a word list as a bitmask.
+   *
+   * @param words The word list.
+   * @param start Offset of the first byte of the word.
+   * @param end Offset after the last byte of the word.
+   * @return The bitmask, or {@code 0} if the word is empty or contains a
+   *     character that is not a letter A-Z.
+   */
+  private static int letterMaskOf(ByteBuffer words, int start, int end) {
+    int mask = 0;
+
+    for (int i = start; i < end; i++) {
+      int letter = (words.get(i) | 0x20) - 'a';
+
+      if (letter < 0 || letter >= 26) {
+        return 0;
+      }
+
+      mask |= 1 << letter;
+    }
+
+    return mask;
+  }
+
+  /**
+   * Maps an index file.
+   *
+   * @param wordList The word list the index belongs to.
+   * @param words The mapped word list.
+   * @param index The index file.
+   * @return The dictionary, or {@code null} if the index is of another format
+   *     version or does not belong to the current version of the word list.
+   * @throws IOException if a file cannot be read.
+   */
+  private static Dictionary load(Path wordList, ByteBuffer words, Path index) throws IOException {
+    ByteBuffer buffer = map(index);
+
+    if (
+        buffer.limit() < HEADER_SIZE
+        || buffer.getInt(0) != MAGIC
+        || buffer.getInt(4) != VERSION
+        || buffer.getLong(8) != Files.size(wordList)
+        || buffer.getLong(16) != Files.getLastModifiedTime(wordList).toMillis()
+    ) {
+      return null;
+    }
+
+    int size = buffer.getInt(24);
+    int position = HEADER_SIZE;
+
+    IntBuffer offsets = intSlice(buffer, position, size);
+    IntBuffer lengths = intSlice(buffer, position += size * Integer.BYTES, size);
+    IntBuffer masks = intSlice(buffer, position += size * Integer.BYTES, size);
+    IntBuffer starts = intSlice(
+        buffer, position += size * Integer.BYTES, Difficulty.values().length * BUCKETS + 1
+    );
+
+    return new Dictionary(words, offsets, lengths, masks, starts);
+  }
+
+  /**
+   * Returns a view of a range of a buffer as ints.
+   *
+   * @param buffer The buffer.
+   * @param position Byte offset of the first int.
+   * @param length Amount of ints.
+   * @return The view.
+   */
+  private static IntBuffer intSlice(ByteBuffer buffer, int position, int length) {
+    return buffer.slice(position, length * Integer.BYTES).asIntBuffer();
+  }
+
+  /**
+   * Writes the index to a file. The file is replaced atomically.
+   *
+   * @param wordList The word list the index belongs to.
+   * @param index The index file.
+   * @throws IOException if a file cannot be read or written.
+   */
+  private void write(Path wordList, Path index) throws IOException {
+    Path temporary = index.resolveSibling(index.getFileName() + ".tmp");
+
+    try (
+      DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temporary))
+      );
+    ) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(Files.size(wordList));
+      out.writeLong(Files.getLastModifiedTime(wordList).toMillis());
+      out.writeInt(size());
+      out.writeInt(0);
+
+      for (IntBuffer buffer : new IntBuffer[] {offsets, lengths, letterMasks, starts}) {
+        for (int i = 0; i < buffer.limit(); i++) {
+          out.writeInt(buffer.get(i));
+        }
+      }
+    }
+
+    Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Returns the amount of words. */
+  public int size() {
+    return this.offsets.limit();
+  }
+
+  /**
+   * Returns a word.
+   *
+   * @param id Id of the word.
+   * @return The word in upper case.
+   */
+  public String word(int id) {
+    byte[] word = new byte[length(id)];
+    this.words.get(this.offsets.get(id), word);
+
+    for (int i = 0; i < word.length; i++) {
+      word[i] &= ~0x20;
+    }
+
+    return new String(word, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Returns a character of a word.
+   *
+   * @param id Id of the word.
+   * @param index Index of the character.
+   * @return The character in upper case.
+   */
+  public char charAt(int id, int index) {
+    return (char) (this.words.get(this.offsets.get(id) + index) & ~0x20);
+  }
+
+  /**
+   * Returns the length of a word.
+   *
+   * @param id Id of the word.
+   */
+  public int length(int id) {
+    return this.lengths.get(id);
+  }
+
+  /**
+   * Returns the letters of a word as a bitmask, see {@link
+   * Difficulty#maskOf(CharSequence)}.
+   *
+   * @param id Id of the word.
+   */
+  public int letterMask(int id) {
+    return this.letterMasks.get(id);
+  }
+
+  /**
+   * Returns the {@link #letterIndex letter index}, building it on first
+   * access.
+   */
+  private long[][] getLetterIndex() {
+    long[][] letterIndex = this.letterIndex;
+
+    if (letterIndex == null) {
+      synchronized (this) {
+        letterIndex = this.letterIndex;
+
+        if (letterIndex == null) {
+          letterIndex = new long[26][(size() + 63) >>> 6];
+
+          for (int id = 0; id < size(); id++) {
+            for (int mask = letterMask(id); mask != 0; mask &= mask - 1) {
+              letterIndex[Integer.numberOfTrailingZeros(mask)][id >>> 6] |= 1L << id;
+            }
+          }
+
+          this.letterIndex = letterIndex;
+        }
+      }
+    }
+
+    return letterIndex;
+  }
+
+  /**
+   * Returns the next id within a range whose word contains at least one of
+   * a set of letters.
+   *
+   * @param letterMask The letters as a bitmask, see {@link
+   *     Difficulty#maskOf(CharSequence)}.
+   * @param fromId First id to check.
+   * @param toId Id after the last id to check.
+   * @return The id, or {@code toId} if no word of the range matches.
+   */
+  public int nextIdWithAnyLetter(int letterMask, int fromId, int toId) {
+    return nextId(letterMask, false, fromId, toId);
+  }
+
+  /**
+   * Returns the next id within a range whose word contains all of a set of
+   * letters.
+   *
+   * @param letterMask The letters as a bitmask, see {@link
+   *     Difficulty#maskOf(CharSequence)}.
+   * @param fromId First id to check.
+   * @param toId Id after the last id to check.
+   * @return The id, or {@code toId} if no word of the range matches.
+   */
+  public int nextIdWithAllLetters(int letterMask, int fromId, int toId) {
+    return nextId(letterMask, true, fromId, toId);
+  }
+
+  /**
+   * Returns the next id within a range whose word contains any or all of a
+   * set of letters, looked up in the {@link #letterIndex letter index}.
+   *
+   * @param letterMask The letters as a bitmask.
+   * @param all Whether the word must contain all letters instead of any.
+   * @param fromId First id to check.
+   * @param toId Id after the last id to check.
+   * @return The id, or {@code toId} if no word of the range matches.
+   */
+  private int nextId(int letterMask, boolean all, int fromId, int toId) {
+    if (fromId >= toId || (letterMask == 0 && !all)) {
+      return toId;
+    }
+
+    long[][] letterIndex = getLetterIndex();
+    long first = -1L << fromId;
+
+    for (int i = fromId >>> 6; i << 6 < toId; i++, first = -1L) {
+      long bits = all ? first : 0;
+
+      for (int mask = letterMask; mask != 0; mask &= mask - 1) {
+        long posting = letterIndex[Integer.numberOfTrailingZeros(mask)][i];
+        bits = all ? bits & posting : bits | posting;
+      }
+
+      bits &= first;
+      if (bits != 0) {
+        return Math.min(toId, (i << 6) + Long.numberOfTrailingZeros(bits));
+      }
+    }
+
+    return toId;
+  }
+
+  /**
+   * Returns the first id of the words of a difficulty and length.
+   *
+   * @param difficulty Difficulty of the words.
+   * @param length Length of the words, between 0 and {@link #MAX_LENGTH} + 1.
+   */
+  public int firstId(Difficulty difficulty, int length) {
+    return this.starts.get(difficulty.ordinal() * BUCKETS + length);
+  }
+
+  /**
+   * Returns the id after the last id of the words of a difficulty and length.
+   *
+   * @param difficulty Difficulty of the words.
+   * @param length Length of the words, between 0 and {@link #MAX_LENGTH}.
+   */
+  public int endId(Difficulty difficulty, int length) {
+    return firstId(difficulty, length + 1);
+  }
+
+  /**
+   * Picks a random word matching constraints in constant time.
+   *
+   * @param minLength Minimum length of the word.
+   * @param maxLength Maximum length of the word.
+   * @param difficulty Difficulty of the word, or {@code null} for any.
+   * @param random The random number generator.
+   * @return Id of the word.
+   * @throws NoSuchElementException if no word matches the constraints.
+   */
+  public int randomId(int minLength, int maxLength, Difficulty difficulty, Random random) {
+    int min = Math.max(minLength, 1);
+    int max = Math.min(maxLength, MAX_LENGTH);
+
+    if (min > max) {
+      throw new NoSuchElementException("No word matches the constraints.");
+    }
+
+    if (difficulty != null) {
+      return randomId(difficulty, min, max, 0, random);
+    }
+
+    int total = 0;
+    for (Difficulty any : Difficulty.values()) {
+      total += firstId(any, max + 1) - firstId(any, min);
+    }
+
+    int skip = total == 0 ? 0 : random.nextInt(total);
+
+    for (Difficulty any : Difficulty.values()) {
+      int count = firstId(any, max + 1) - firstId(any, min);
+
+      if (skip < count) {
+        return randomId(any, min, max, skip, null);
+      }
+
+      skip -= count;
+    }
+
+    throw new NoSuchElementException("No word matches the constraints.");
+  }
+
+  /**
+   * Picks a word of one difficulty within a length range.
+   *
+   * @param difficulty Difficulty of the word.
+   * @param min Minimum length of the word.
+   * @param max Maximum length of the word.
+   * @param skip Index of the word within the range, used if {@code random} is
+   *     {@code null}.
+   * @param random The random number generator, or {@code null}.
+   * @return Id of the word.
+   * @throws NoSuchElementException if no word matches the constraints.
+   */
+  private int randomId(Difficulty difficulty, int min, int max, int skip, Random random) {
+    int from = firstId(difficulty, min);
+    int to = firstId(difficulty, max + 1);
+
+    if (from == to) {
+      throw new NoSuchElementException("No word matches the constraints.");
+    }
+
+    return from + (random == null ? skip : random.nextInt(to - from));
+  }
+}
@@ -0,0 +1,62 @@
+package main.words;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Word source that picks random words matching fixed constraints from a
+ * {@link Dictionary}.
+ *
+ * @author Neufeld-Martin
+ */
+public class DictionaryWordSource implements WordSource {
+  /** The dictionary to pick from. */
+  private final Dictionary dictionary;
+
+  /** Minimum length of picked words. */
+  private final int minLength;
+
+  /** Maximum length of picked words. */
+  private final int maxLength;
+
+  /** Difficulty of picked words, or {@code null} for any difficulty. */
+  private final Difficulty difficulty;
+
+  /** The random number generator, or {@code null} to use a thread-local one. */
+  private final Random random;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param dictionary the {@link #dictionary dictionary to pick from}.
+   * @param minLength the {@link #minLength minimum length of picked words}.
+   * @param maxLength the {@link #maxLength maximum length of picked words}.
+   * @param difficulty the {@link #difficulty difficulty of picked words}.
+   * @param random the {@link #random random number generator}.
+   */
+  public DictionaryWordSource(
+      Dictionary dictionary, int minLength, int maxLength, Difficulty difficulty, Random random
+  ) {
+    this.dictionary = dictionary;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+    this.difficulty = difficulty;
+    this.random = random;
+  }
+
+  /**
+   * Constructs an instance of this class picking any word of the dictionary.
+   *
+   * @param dictionary the {@link #dictionary dictionary to pick from}.
+   */
+  public DictionaryWordSource(Dictionary dictionary) {
+    this(dictionary, 1, Dictionary.MAX_LENGTH, null, null);
+  }
+
+  @Override
+  public String nextWord() {
+    Random random = this.random == null ? ThreadLocalRandom.current() : this.random;
+    int id = this.dictionary.randomId(this.minLength, this.maxLength, this.difficulty, random);
+    return this.dictionary.word(id);
+  }
+}
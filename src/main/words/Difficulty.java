@@ -0,0 +1,58 @@
+package main.words;
+
+/**
+ * Difficulty of a word, estimated from the letters it consists of. The more
+ * distinct letters a word has outside of the most frequent letters of English
+ * words, the harder it is to guess.
+ *
+ * @author Neufeld-Martin
+ */
+public enum Difficulty {
+  /** All letters are among the most frequent letters. */
+  EASY,
+
+  /** One letter is not among the most frequent letters. */
+  MEDIUM,
+
+  /** At least two letters are not among the most frequent letters. */
+  HARD;
+
+  /**
+   * The ten most frequent letters of English words as a bitmask. Bit
+   * {@code i} represents the letter {@code 'A' + i}.
+   */
+  private static final int FREQUENT_LETTERS = maskOf("ESIARNTOLC");
+
+  /**
+   * Estimates the difficulty of a word.
+   *
+   * @param letterMask The letters of the word as a bitmask, see {@link
+   *     #maskOf(CharSequence)}.
+   * @return The difficulty.
+   */
+  public static Difficulty of(int letterMask) {
+    int rareLetters = Integer.bitCount(letterMask & ~FREQUENT_LETTERS);
+    return values()[Math.min(rareLetters, HARD.ordinal())];
+  }
+
+  /**
+   * Returns the letters A-Z of a word as a bitmask. Bit {@code i} represents
+   * the letter {@code 'A' + i}; other characters are ignored.
+   *
+   * @param word The word.
+   * @return The bitmask.
+   */
+  public static int maskOf(CharSequence word) {
+    int mask = 0;
+
+    for (int i = 0; i < word.length(); i++) {
+      char chr = word.charAt(i);
+
+      if (chr >= 'A' && chr <= 'Z') {
+        mask |= 1 << (chr - 'A');
+      }
+    }
+
+    return mask;
+  }
+}
@@ -0,0 +1,279 @@
+package main.words;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The measured solve rates of the words of a word list, i.e. the fraction of
+ * simulated rounds in which a guesser guessed the word.
+ *
+ * <p>Rates are keyed by a 64-bit hash of the word rather than by the id of
+ * the word within a {@link Dictionary}, so that they stay valid when words
+ * are added to the word list. Each rate takes one byte; the keys are kept
+ * sorted, so that a rate is looked up by binary search. The rates can be
+ * {@link #write(Path) written} to a file next to the word list, which is
+ * mapped by {@link #open(Path, int, int)}.
+ *
+ * @author Neufeld-Martin
+ */
+public final class SolveRates {
+  /** Rate stored for a word that is always guessed. */
+  public static final int MAX_RATE = 255;
+
+  /** Magic number identifying a rates file. */
+  private static final int MAGIC = 0x484d5352;
+
+  /** Version of the rates file format. */
+  private static final int VERSION = 1;
+
+  /** Size of the header of a rates file in bytes. */
+  private static final int HEADER_SIZE = 24;
+
+  /** File extension of rates files. */
+  private static final String RATES_EXTENSION = ".rates";
+
+  /** Maximum amount of wrong guesses of the simulated rounds. */
+  private final int maxGuesses;
+
+  /** Amount of simulated rounds per word. */
+  private final int trials;
+
+  /** Keys of the words in ascending order, see {@link #keyOf(CharSequence)}. */
+  private final LongBuffer keys;
+
+  /** Rate of each word from {@code 0} to {@link #MAX_RATE}, in the order of the {@link #keys keys}. */
+  private final ByteBuffer rates;
+
+  /**
+   * Constructs an instance of this class.
+   *
+   * @param maxGuesses the {@link #maxGuesses maximum amount of wrong guesses}.
+   * @param trials the {@link #trials amount of simulated rounds per word}.
+   * @param keys the {@link #keys keys of the words}.
+   * @param rates the {@link #rates rate of each word}.
+   */
+  private SolveRates(int maxGuesses, int trials, LongBuffer keys, ByteBuffer rates) {
+    this.maxGuesses = maxGuesses;
+    this.trials = trials;
+    this.keys = keys;
+    this.rates = rates;
+  }
+
+  /**
+   * Creates rates from arrays.
+   *
+   * @param maxGuesses Maximum amount of wrong guesses of the simulated rounds.
+   * @param trials Amount of simulated rounds per word.
+   * @param keys Keys of the words in ascending order without duplicates.
+   * @param rates Rate of each word, in the order of the keys.
+   * @return The rates.
+   */
+  public static SolveRates of(int maxGuesses, int trials, long[] keys, byte[] rates) {
+    return new SolveRates(maxGuesses, trials, LongBuffer.wrap(keys), ByteBuffer.wrap(rates));
+  }
+
+  /**
+   * Creates rates of no words.
+   *
+   * @param maxGuesses Maximum amount of wrong guesses of the simulated rounds.
+   * @param trials Amount of simulated rounds per word.
+   * @return The rates.
+   */
+  public static SolveRates empty(int maxGuesses, int trials) {
+    return of(maxGuesses, trials, new long[0], new byte[0]);
+  }
+
+  /**
+   * Opens the rates of a word list, if measured with the given parameters.
+   *
+   * @param wordList File with one word per line.
+   * @param maxGuesses Maximum amount of wrong guesses of the simulated rounds.
+   * @param trials Amount of simulated rounds per word.
+   * @return The mapped rates, or {@link #empty(int, int) empty} rates if no
+   *     rates file exists or it was measured with other parameters.
+   * @throws IOException if the rates file cannot be read.
+   */
+  public static SolveRates open(Path wordList, int maxGuesses, int trials) throws IOException {
+    Path path = ratesPathOf(wordList);
+
+    if (!Files.isRegularFile(path)) {
+      return empty(maxGuesses, trials);
+    }
+
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    if (
+        buffer.limit() < HEADER_SIZE
+        || buffer.getInt(0) != MAGIC
+        || buffer.getInt(4) != VERSION
+        || buffer.getInt(8) != maxGuesses
+        || buffer.getInt(12) != trials
+    ) {
+      return empty(maxGuesses, trials);
+    }
+
+    int size = buffer.getInt(16);
+    return new SolveRates(
+        maxGuesses,
+        trials,
+        buffer.slice(HEADER_SIZE, size * Long.BYTES).asLongBuffer(),
+        buffer.slice(HEADER_SIZE + size * Long.BYTES, size)
+    );
+  }
+
+  /** Returns the path of the rates file of a word list. */
+  private static Path ratesPathOf(Path wordList) {
+    return wordList.resolveSibling(wordList.getFileName() + RATES_EXTENSION);
+  }
+
+  /**
+   * Returns the key of a word, a 64-bit FNV-1a hash of its characters.
+   *
+   * @param word The word in upper case.
+   * @return The key.
+   */
+  public static long keyOf(CharSequence word) {
+    long hash = 0xcbf29ce484222325L;
+
+    for (int i = 0; i < word.length(); i++) {
+      hash = (hash ^ word.charAt(i)) * 0x100000001b3L;
+    }
+
+    return hash;
+  }
+
+  /**
+   * Returns the key of a word of a dictionary, see {@link #keyOf(CharSequence)}.
+   *
+   * @param dictionary The dictionary.
+   * @param id Id of the word.
+   * @return The key.
+   */
+  public static long keyOf(Dictionary dictionary, int id) {
+    long hash = 0xcbf29ce484222325L;
+
+    for (int i = 0; i < dictionary.length(id); i++) {
+      hash = (hash ^ dictionary.charAt(id, i)) * 0x100000001b3L;
+    }
+
+    return hash;
+  }
+
+  /** Returns the {@link #maxGuesses maximum amount of wrong guesses}. */
+  public int getMaxGuesses() {
+    return this.maxGuesses;
+  }
+
+  /** Returns the {@link #trials amount of simulated rounds per word}. */
+  public int getTrials() {
+    return this.trials;
+  }
+
+  /** Returns the amount of words. */
+  public int size() {
+    return this.keys.limit();
+  }
+
+  /**
+   * Returns the key at an index.
+   *
+   * @param index Index of the key, in ascending order of the keys.
+   * @return The key.
+   */
+  public long keyAt(int index) {
+    return this.keys.get(index);
+  }
+
+  /**
+   * Returns the rate at an index.
+   *
+   * @param index Index of the rate, in ascending order of the keys.
+   * @return The rate from {@code 0} to {@link #MAX_RATE}.
+   */
+  public int rateAt(int index) {
+    return this.rates.get(index) & 0xff;
+  }
+
+  /**
+   * Returns the index of a key.
+   *
+   * @param key The key.
+   * @return The index, or a negative value if the key is unknown.
+   */
+  public int indexOf(long key) {
+    int low = 0;
+    int high = size() - 1;
+
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      long current = this.keys.get(middle);
+
+      if (current < key) {
+        low = middle + 1;
+      } else if (current > key) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the rate of a word.
+   *
+   * @param key Key of the word.
+   * @return The rate from {@code 0} to {@link #MAX_RATE}, or {@code -1} if
+   *     the word is unknown.
+   */
+  public int rateOf(long key) {
+    int index = indexOf(key);
+    return index < 0 ? -1 : rateAt(index);
+  }
+
+  /**
+   * Writes the rates to a file next to a word list. The file is replaced
+   * atomically.
+   *
+   * @param wordList The word list the rates belong to.
+   * @throws IOException if the file cannot be written.
+   */
+  public void write(Path wordList) throws IOException {
+    Path path = ratesPathOf(wordList);
+    Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+    try (
+      DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temporary))
+      );
+    ) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(this.maxGuesses);
+      out.writeInt(this.trials);
+      out.writeInt(size());
+      out.writeInt(0);
+
+      for (int i = 0; i < size(); i++) {
+        out.writeLong(this.keys.get(i));
+      }
+      for (int i = 0; i < size(); i++) {
+        out.writeByte(this.rates.get(i));
+      }
+    }
+
+    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -0,0 +1,41 @@
+package main.words;
+
+/**
+ * A source of words to guess.
+ *
+ * @author Neufeld-Martin
+ */
+public interface WordSource {
+  /**
+   * Returns the next word to guess.
+   *
+   * @return A word consisting of letters A-Z only.
+   * @throws java.util.NoSuchElementException if the source has no matching
+   *     word.
+   */
+  String nextWord();
+
+  /**
+   * Returns the next word for a player to guess. Sources that adapt to the
+   * player, like the {@link AdaptiveWordSource}, override this method; by
+   * default, the player is ignored.
+   *
+   * @param player Name of the player who guesses the word.
+   * @return A word consisting of letters A-Z only.
+   * @throws java.util.NoSuchElementException if the source has no matching
+   *     word.
+   */
+  default String nextWord(String player) {
+    return nextWord();
+  }
+
+  /**
+   * Reports the outcome of a round played on a word of this source. Ignored
+   * by default.
+   *
+   * @param player Name of the player who guessed the word.
+   * @param won Whether the player guessed the word.
+   */
+  default void recordResult(String player, boolean won) {
+  }
+}